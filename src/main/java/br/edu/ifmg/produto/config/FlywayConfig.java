@@ -0,0 +1,24 @@
+package br.edu.ifmg.produto.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * The test profile runs on an in-memory database shared by every context in
+     * the JVM, so each start drops what the previous one left and migrates from
+     * scratch, like ddl-auto=create did.
+     */
+    @Bean
+    @Profile("test")
+    public FlywayMigrationStrategy cleanMigrateStrategy() {
+        return flyway -> {
+            flyway.clean();
+            flyway.migrate();
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package br.edu.ifmg.produto.config;
+
+import io.micrometer.common.KeyValue;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerHttpObservationDocumentation.LowCardinalityKeyNames;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+import java.util.Set;
+
+@Configuration
+public class MetricsConfig {
+
+    private static final Set<String> FILTER_ENDPOINTS = Set.of(
+            "/oauth2/token", "/oauth2/introspect", "/oauth2/revoke", "/oauth2/jwks");
+
+    /**
+     * The authorization server answers from a filter, so its requests have no
+     * handler pattern and would all be tagged uri=UNKNOWN; its endpoints keep
+     * their path instead.
+     */
+    @Bean
+    public ServerRequestObservationConvention serverRequestObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            protected KeyValue uri(ServerRequestObservationContext context) {
+                HttpServletRequest request = context.getCarrier();
+                if (context.getPathPattern() == null && request != null) {
+                    String path = request.getRequestURI().substring(request.getContextPath().length());
+                    if (FILTER_ENDPOINTS.contains(path)) {
+                        return KeyValue.of(LowCardinalityKeyNames.URI, path);
+                    }
+                }
+                return super.uri(context);
+            }
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package br.edu.ifmg.produto.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Fails startup when an index declared on an entity ({@code @Table} or
+ * {@code @JoinTable} {@code indexes}) is missing from the migrated schema.
+ * {@code ddl-auto=validate} already compares tables, columns and sequences
+ * but ignores indexes, and a missing one only shows up as a slow query.
+ * An index counts as present when some index of the table starts with the
+ * declared columns, in order; names are not compared.
+ */
+@Slf4j
+@Component
+public class SchemaIndexValidator implements InitializingBean {
+
+    private record DeclaredIndex(String table, String name, List<String> columns) {}
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        List<DeclaredIndex> declared = declaredIndexes();
+        List<String> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Map<String, List<List<String>>> existing = new HashMap<>();
+            for (DeclaredIndex index : declared) {
+                List<List<String>> indexes = existing.computeIfAbsent(index.table(), t -> existingIndexes(metaData, t));
+                if (indexes.stream().noneMatch(columns -> startsWith(columns, index.columns()))) {
+                    missing.add(index.name() + " on " + index.table() + " " + index.columns());
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Schema is missing indexes declared by the entities: " + missing);
+        }
+        log.info("Schema has all {} indexes declared by the entities", declared.size());
+    }
+
+    private List<DeclaredIndex> declaredIndexes() {
+        List<DeclaredIndex> result = new ArrayList<>();
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            Class<?> type = entity.getJavaType();
+            Table table = type.getAnnotation(Table.class);
+            if (table != null) {
+                add(result, table.name(), table.indexes());
+            }
+            for (Field field : type.getDeclaredFields()) {
+                JoinTable joinTable = field.getAnnotation(JoinTable.class);
+                if (joinTable != null) {
+                    add(result, joinTable.name(), joinTable.indexes());
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void add(List<DeclaredIndex> result, String table, Index[] indexes) {
+        for (Index index : indexes) {
+            List<String> columns = Arrays.stream(index.columnList().split(","))
+                    .map(column -> column.trim().split("\\s+")[0].toLowerCase(Locale.ROOT))
+                    .toList();
+            result.add(new DeclaredIndex(table.toLowerCase(Locale.ROOT), index.name(), columns));
+        }
+    }
+
+    /**
+     * Column lists of every index of the table, primary key and unique constraints included.
+     */
+    private static List<List<String>> existingIndexes(DatabaseMetaData metaData, String table) {
+        String name = storesUpperCase(metaData) ? table.toUpperCase(Locale.ROOT) : table;
+        Map<String, SortedMap<Short, String>> indexes = new HashMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(null, null, name, false, true)) {
+            while (rs.next()) {
+                String index = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (index != null && column != null) {
+                    indexes.computeIfAbsent(index, i -> new TreeMap<>())
+                            .put(rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not read the indexes of " + table, e);
+        }
+        return indexes.values().stream().map(columns -> List.copyOf(columns.values())).toList();
+    }
+
+    private static boolean storesUpperCase(DatabaseMetaData metaData) {
+        try {
+            return metaData.storesUpperCaseIdentifiers();
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static boolean startsWith(List<String> columns, List<String> prefix) {
+        return columns.size() >= prefix.size() && columns.subList(0, prefix.size()).equals(prefix);
+    }
+
+}
@@ -0,0 +1,130 @@
+package br.edu.ifmg.produto.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * With {@code spring.threads.virtual.enabled}, watches the JFR
+ * {@code jdk.VirtualThreadPinned} event: a virtual thread that blocks while it
+ * cannot unmount (inside {@code synchronized}, e.g. in H2 or JavaMail, or in
+ * native code) holds its carrier thread, and enough of them starve the few
+ * carriers. Each pin longer than {@code virtual-threads.pinning.threshold} is
+ * timed in {@code jvm.threads.virtual.pinned} and counted by location, the
+ * first application or library frame of its stack; a location is logged with
+ * its stack the first time it shows up.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    @Value("${virtual-threads.pinning.threshold:20ms}")
+    private Duration threshold;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, LongAdder> locations = new ConcurrentHashMap<>();
+    private Timer pinned;
+    private volatile RecordingStream stream;
+
+    @Override
+    public void start() {
+        pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads spent blocked while pinned to their carrier thread")
+                .register(meterRegistry);
+        RecordingStream recording = new RecordingStream();
+        recording.enable(EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Reporting virtual threads pinned for more than {} ms", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * Pins seen so far by location, most frequent first.
+     */
+    public Map<String, Long> pinnedLocations() {
+        return locations.entrySet().stream()
+                .sorted(Map.Entry.<String, LongAdder>comparingByValue(
+                        (a, b) -> Long.compare(b.sum(), a.sum())))
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey, e -> e.getValue().sum(), (a, b) -> a, LinkedHashMap::new));
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        String location = location(event);
+        LongAdder count = locations.computeIfAbsent(location, l -> new LongAdder());
+        count.increment();
+        if (count.sum() == 1) {
+            log.warn("Virtual thread pinned for {} ms at {}:{}",
+                    event.getDuration().toMillis(), location, stackTrace(event));
+        }
+    }
+
+    private static String location(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(frame -> !isJdk(frame.getMethod().getType().getName()))
+                .findFirst()
+                .map(VirtualThreadPinningMonitor::format)
+                .orElse("unknown");
+    }
+
+    private static String stackTrace(RecordedEvent event) {
+        StringBuilder result = new StringBuilder();
+        if (event.getStackTrace() != null) {
+            event.getStackTrace().getFrames().stream()
+                    .limit(LOGGED_FRAMES)
+                    .forEach(frame -> result.append(System.lineSeparator()).append("\tat ").append(format(frame)));
+        }
+        return result.toString();
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static boolean isJdk(String className) {
+        return className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.");
+    }
+
+}
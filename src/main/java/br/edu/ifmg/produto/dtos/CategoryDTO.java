@@ -1,10 +1,13 @@
 package br.edu.ifmg.produto.dtos;
 
 import br.edu.ifmg.produto.entities.Category;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import org.springframework.hateoas.RepresentationModel;
 
+import java.time.Instant;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,10 +24,14 @@ public class CategoryDTO extends RepresentationModel<CategoryDTO> {
     @Schema(description = "URL of the image representing the category", example = "https://example.com/images/electronics.png")
     private String imageUrl;
 
+    @JsonIgnore
+    private Instant version;
+
     public CategoryDTO(Category entity) {
         this.id = entity.getId();
         this.name = entity.getName();
         this.imageUrl = entity.getImageUrl();
+        this.version = entity.getUpdateAt() != null ? entity.getUpdateAt() : entity.getCreatedAt();
     }
 
 }
@@ -0,0 +1,25 @@
+package br.edu.ifmg.produto.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "CategoryFacetDTO", description = "Number of matching products in a category")
+public class CategoryFacetDTO {
+
+    @Schema(description = "Category ID", example = "2")
+    private Long id;
+
+    @Schema(description = "Category name", example = "Eletrônicos")
+    private String name;
+
+    @Schema(description = "Number of matching products in the category", example = "123")
+    private long count;
+
+}
@@ -0,0 +1,31 @@
+package br.edu.ifmg.produto.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "CursorPageDTO", description = "A page of results fetched by keyset cursor")
+public class CursorPageDTO<T> {
+
+    @Schema(description = "Items of the current page")
+    private List<T> content = new ArrayList<>();
+
+    @Schema(description = "Number of items requested per page", example = "20")
+    private int size;
+
+    @Schema(description = "Opaque cursor to pass as 'after' to fetch the next page; null on the last page")
+    private String nextCursor;
+
+    @Schema(description = "Whether another page is available")
+    private boolean hasNext;
+
+}
@@ -0,0 +1,25 @@
+package br.edu.ifmg.produto.dtos;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+
+/**
+ * A page serialized like any other, plus a {@code facets} property. Every
+ * matching product falls in exactly one price range, so the total is the sum
+ * of the price facet counts and needs no count query of its own.
+ */
+public class FacetedPageDTO<T> extends PageImpl<T> {
+
+    private final ProductFacetsDTO facets;
+
+    public FacetedPageDTO(Slice<T> slice, ProductFacetsDTO facets) {
+        super(slice.getContent(), slice.getPageable(),
+                facets.getPrices().stream().mapToLong(PriceFacetDTO::getCount).sum());
+        this.facets = facets;
+    }
+
+    public ProductFacetsDTO getFacets() {
+        return facets;
+    }
+
+}
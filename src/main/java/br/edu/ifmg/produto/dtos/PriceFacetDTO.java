@@ -0,0 +1,27 @@
+package br.edu.ifmg.produto.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "PriceFacetDTO", description = "Number of matching products in a price range")
+public class PriceFacetDTO {
+
+    @Schema(description = "Lower bound of the range, inclusive; null for products without a price", example = "500")
+    private BigDecimal min;
+
+    @Schema(description = "Upper bound of the range, exclusive; null for products without a price", example = "1000")
+    private BigDecimal max;
+
+    @Schema(description = "Number of matching products in the range", example = "12")
+    private long count;
+
+}
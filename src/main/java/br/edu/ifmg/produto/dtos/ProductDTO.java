@@ -2,6 +2,7 @@ package br.edu.ifmg.produto.dtos;
 
 import br.edu.ifmg.produto.entities.Category;
 import br.edu.ifmg.produto.entities.Product;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
@@ -10,6 +11,7 @@ import lombok.*;
 import org.springframework.hateoas.RepresentationModel;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -41,12 +43,16 @@ public class ProductDTO extends RepresentationModel<ProductDTO> {
     @Schema(description = "Set of categories this product belongs to")
     private Set<CategoryDTO> categories = new HashSet<>();
 
+    @JsonIgnore
+    private Instant version;
+
     public ProductDTO(Product entity) {
         this.id = entity.getId();
         this.name = entity.getName();
         this.description = entity.getDescription();
         this.price = entity.getPrice();
         this.imageUrl = entity.getImageUrl();
+        this.version = entity.getUpdatedAt() != null ? entity.getUpdatedAt() : entity.getCreatedAt();
         entity.getCategories().forEach(c -> this.categories.add(new CategoryDTO(c)));
     }
 
@@ -0,0 +1,25 @@
+package br.edu.ifmg.produto.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "ProductFacetsDTO", description = "Product counts per category and price range for a query")
+public class ProductFacetsDTO {
+
+    @Schema(description = "Categories with at least one matching product, most products first")
+    private List<CategoryFacetDTO> categories = new ArrayList<>();
+
+    @Schema(description = "Non-empty price ranges of the matching products, cheapest first")
+    private List<PriceFacetDTO> prices = new ArrayList<>();
+
+}
@@ -0,0 +1,22 @@
+package br.edu.ifmg.produto.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "ProductImportErrorDTO", description = "A rejected line of a product import")
+public class ProductImportErrorDTO {
+
+    @Schema(description = "Line number in the uploaded file, starting at 1", example = "42")
+    private long line;
+
+    @Schema(description = "Why the line was rejected", example = "Unknown category: Brinquedos")
+    private String message;
+
+}
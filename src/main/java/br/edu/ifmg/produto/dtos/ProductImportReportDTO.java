@@ -0,0 +1,34 @@
+package br.edu.ifmg.produto.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "ProductImportReportDTO", description = "Outcome of a bulk product import")
+public class ProductImportReportDTO {
+
+    @Schema(description = "Number of data lines read", example = "50000")
+    private long rows;
+
+    @Schema(description = "Number of products created", example = "49998")
+    private long imported;
+
+    @Schema(description = "Number of lines rejected", example = "2")
+    private long rejected;
+
+    @Schema(description = "Rejected lines; only the first ones are listed when there are many")
+    private List<ProductImportErrorDTO> errors = new ArrayList<>();
+
+    @Schema(description = "Whether some rejected lines were left out of 'errors'")
+    private boolean errorsTruncated;
+
+}
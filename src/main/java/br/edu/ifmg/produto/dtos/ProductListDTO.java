@@ -1,6 +1,8 @@
 package br.edu.ifmg.produto.dtos;
 
 import br.edu.ifmg.produto.entities.Product;
+import br.edu.ifmg.produto.projections.ProductPreviewProjection;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
@@ -11,6 +13,7 @@ import lombok.Setter;
 import org.springframework.hateoas.RepresentationModel;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
 
 @Getter
@@ -37,12 +40,23 @@ public class ProductListDTO extends RepresentationModel<ProductListDTO> {
     @Schema(description = "URL of the product image", example = "https://example.com/images/headphones.png")
     private String imageUrl;
 
+    @JsonIgnore
+    private Instant version;
+
     public ProductListDTO(Product entity) {
         this.id = entity.getId();
         this.name = entity.getName();
         this.description = entity.getDescription();
         this.price = entity.getPrice();
         this.imageUrl = entity.getImageUrl();
+        this.version = entity.getUpdatedAt() != null ? entity.getUpdatedAt() : entity.getCreatedAt();
+    }
+
+    public ProductListDTO(ProductPreviewProjection projection) {
+        this.id = projection.getId();
+        this.name = projection.getName();
+        this.price = projection.getPrice();
+        this.imageUrl = projection.getImageUrl();
     }
 
 }
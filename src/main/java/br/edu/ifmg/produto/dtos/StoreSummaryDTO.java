@@ -0,0 +1,51 @@
+package br.edu.ifmg.produto.dtos;
+
+import br.edu.ifmg.produto.projections.StoreSummaryProjection;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "StoreSummaryDTO", description = "Compact store card for listings such as the homepage")
+public class StoreSummaryDTO {
+
+    @Schema(description = "Unique identifier of the store", example = "3001", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long id;
+
+    @Schema(description = "Average rating of the store (from 0.0 to 5.0)", example = "4.5")
+    private Double rating;
+
+    @Schema(description = "Estimated delivery time in minutes", example = "30")
+    private Integer deliveryTime;
+
+    @Schema(description = "Main category of the store")
+    private CategoryDTO category;
+
+    @Schema(description = "Number of products offered by the store", example = "120")
+    private Long productCount;
+
+    @Schema(description = "A few products of the store to preview on the card")
+    private List<ProductListDTO> previewProducts = new ArrayList<>();
+
+    public StoreSummaryDTO(StoreSummaryProjection projection) {
+        this.id = projection.getId();
+        this.rating = projection.getRating();
+        this.deliveryTime = projection.getDeliveryTime();
+        this.productCount = projection.getProductCount();
+
+        if (projection.getMainCategoryId() != null) {
+            this.category = new CategoryDTO(
+                    projection.getMainCategoryId(),
+                    projection.getMainCategoryName(),
+                    projection.getMainCategoryImageUrl(),
+                    null);
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+package br.edu.ifmg.produto.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "SuggestionDTO", description = "A completion for the search box")
+public class SuggestionDTO {
+
+    public enum Type { PRODUCT, CATEGORY }
+
+    @Schema(description = "Text to show and to search for", example = "PC Gamer")
+    private String text;
+
+    @Schema(description = "Whether the text is a product name or a category name", example = "PRODUCT")
+    private Type type;
+
+    @Schema(description = "Category ID for category suggestions; null for product names, which may match several products", example = "3")
+    private Long categoryId;
+
+}
@@ -12,11 +12,12 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Entity
-@Table(name = "tb_address")
+@Table(name = "tb_address", indexes = @Index(name = "ix_address_user", columnList = "user_id"))
 public class Address {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_address_seq")
+    @SequenceGenerator(name = "tb_address_seq", sequenceName = "tb_address_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
     private String street;      
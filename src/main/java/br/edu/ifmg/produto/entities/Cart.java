@@ -20,7 +20,8 @@ import java.util.List;
 public class Cart {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_cart_seq")
+    @SequenceGenerator(name = "tb_cart_seq", sequenceName = "tb_cart_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -13,11 +13,15 @@ import java.math.BigDecimal;
 @AllArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Entity
-@Table(name = "tb_cart_item")
+@Table(name = "tb_cart_item", indexes = {
+        @Index(name = "ix_cart_item_cart", columnList = "cart_id"),
+        @Index(name = "ix_cart_item_product", columnList = "product_id")
+})
 public class CartItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_cart_item_seq")
+    @SequenceGenerator(name = "tb_cart_item_seq", sequenceName = "tb_cart_item_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
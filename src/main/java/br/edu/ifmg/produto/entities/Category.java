@@ -1,6 +1,7 @@
 package br.edu.ifmg.produto.entities;
 
 import br.edu.ifmg.produto.dtos.CategoryDTO;
+import br.edu.ifmg.produto.util.TextNormalizer;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -18,20 +19,21 @@ import java.util.Set;
 public class Category {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_category_seq")
+    @SequenceGenerator(name = "tb_category_seq", sequenceName = "tb_category_seq", allocationSize = 50)
     @ToString.Include
     private Long id;
 
     @ToString.Include
     private String name;
 
+    private String nameNormalized;
+
     @ToString.Include
     private String imageUrl;
 
-    @Column(columnDefinition = "TIMESTAMP WITHOUT TIME ZONE")
     private Instant createdAt;
 
-    @Column(columnDefinition = "TIMESTAMP WITHOUT TIME ZONE")
     private Instant updateAt;
 
     @ManyToMany(mappedBy = "categories", fetch = FetchType.LAZY)
@@ -45,10 +47,12 @@ public class Category {
     @PrePersist
     private void prePersist() {
         createdAt = Instant.now();
+        nameNormalized = TextNormalizer.fold(name);
     }
 
     @PreUpdate
     private void preUpdate() {
         updateAt = Instant.now();
+        nameNormalized = TextNormalizer.fold(name);
     }
 }
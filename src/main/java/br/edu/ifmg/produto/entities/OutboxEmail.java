@@ -0,0 +1,59 @@
+package br.edu.ifmg.produto.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * An email waiting in the outbox, written in the transaction of the operation
+ * that produced it and sent afterwards by the
+ * {@link br.edu.ifmg.produto.services.EmailOutboxDispatcher}. The body is
+ * cleared once the email is sent, since it may carry a password reset token.
+ */
+@Entity
+@Table(name = "tb_email_outbox", indexes = @Index(name = "ix_email_outbox_due", columnList = "status, next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class OutboxEmail {
+
+    public enum Status { PENDING, SENT, FAILED }
+
+    public static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_email_outbox_seq")
+    @SequenceGenerator(name = "tb_email_outbox_seq", sequenceName = "tb_email_outbox_seq", allocationSize = 50)
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant sentAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+}
@@ -6,7 +6,7 @@ import lombok.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "tb_password_recover")
+@Table(name = "tb_password_recover", indexes = @Index(name = "ix_password_recover_token", columnList = "token, expiration"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,7 +15,8 @@ import java.time.Instant;
 public class PasswordRecover {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_password_recover_seq")
+    @SequenceGenerator(name = "tb_password_recover_seq", sequenceName = "tb_password_recover_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -1,5 +1,6 @@
 package br.edu.ifmg.produto.entities;
 
+import br.edu.ifmg.produto.util.TextNormalizer;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -9,18 +10,26 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "tb_product")
+@Table(name = "tb_product", indexes = {
+        @Index(name = "ix_product_name_id", columnList = "name, id"),
+        @Index(name = "ix_product_price_id", columnList = "price, id"),
+        @Index(name = "ix_product_created_at_id", columnList = "created_at, id"),
+        @Index(name = "ix_product_store", columnList = "store_id, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_product_seq")
+    @SequenceGenerator(name = "tb_product_seq", sequenceName = "tb_product_seq", allocationSize = 50)
     private Long id;
 
     private String name;
 
+    private String nameNormalized;
+
     @Column(columnDefinition = "TEXT")
     private String description;
 
@@ -36,11 +45,14 @@ public class Product {
     @JoinTable(
             name = "tb_product_category",
             joinColumns = @JoinColumn(name = "product_id"),
-            inverseJoinColumns = @JoinColumn(name = "category_id")
+            inverseJoinColumns = @JoinColumn(name = "category_id"),
+            indexes = @Index(name = "ix_product_category_category", columnList = "category_id, product_id")
     )
     private Set<Category> categories = new HashSet<>();
 
-    @ManyToOne(optional = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "store_id")
     private Store store;
 
@@ -72,10 +84,12 @@ public class Product {
     @PrePersist
     public void prePersist() {
         this.createdAt = Instant.now();
+        this.nameNormalized = TextNormalizer.fold(name);
     }
 
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = Instant.now();
+        this.nameNormalized = TextNormalizer.fold(name);
     }
 }
@@ -15,7 +15,8 @@ import org.springframework.security.core.GrantedAuthority;
 public class Role implements GrantedAuthority {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_role_seq")
+    @SequenceGenerator(name = "tb_role_seq", sequenceName = "tb_role_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
     private String authority;
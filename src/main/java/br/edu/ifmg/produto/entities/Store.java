@@ -12,26 +12,34 @@ import java.util.List;
 
 @Slf4j
 @Entity
-@Table(name = "tb_store")
+@Table(name = "tb_store", indexes = {
+        @Index(name = "ix_store_rating", columnList = "rating DESC, id"),
+        @Index(name = "ix_store_main_category", columnList = "main_category_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Store {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_store_seq")
+    @SequenceGenerator(name = "tb_store_seq", sequenceName = "tb_store_seq", allocationSize = 50)
     private Long id;
 
     private Double rating;
 
     private Integer deliveryTime;
 
+    // kept by StoreRepository.addProductCount in the same transaction as the product writes
+    @Column(insertable = false, updatable = false)
+    private long productCount;
+
     @OneToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "user_id", unique = true)
     private User owner;
 
     @JsonIgnore
-    @OneToMany(mappedBy = "store", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "store", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Product> products;
 
     @ManyToOne(fetch = FetchType.EAGER)
@@ -15,7 +15,8 @@ import java.util.*;
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_user_seq")
+    @SequenceGenerator(name = "tb_user_seq", sequenceName = "tb_user_seq", allocationSize = 50)
     private Long id;
 
     private String firstName;
@@ -32,7 +33,8 @@ public class User implements UserDetails {
     @JoinTable(
         name = "tb_user_role",
         joinColumns = @JoinColumn(name = "user_id"),
-        inverseJoinColumns = @JoinColumn(name = "role_id")
+        inverseJoinColumns = @JoinColumn(name = "role_id"),
+        indexes = @Index(name = "ix_user_role_role", columnList = "role_id")
     )
     private Set<Role> roles = new HashSet<>();
 
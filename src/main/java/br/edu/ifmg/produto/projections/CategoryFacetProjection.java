@@ -0,0 +1,11 @@
+package br.edu.ifmg.produto.projections;
+
+public interface CategoryFacetProjection {
+
+    Long getCategoryId();
+
+    String getName();
+
+    Long getCount();
+
+}
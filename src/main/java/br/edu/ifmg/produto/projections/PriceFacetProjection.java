@@ -0,0 +1,11 @@
+package br.edu.ifmg.produto.projections;
+
+import java.math.BigDecimal;
+
+public interface PriceFacetProjection {
+
+    BigDecimal getBucket();
+
+    Long getCount();
+
+}
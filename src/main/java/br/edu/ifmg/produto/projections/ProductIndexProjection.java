@@ -0,0 +1,18 @@
+package br.edu.ifmg.produto.projections;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public interface ProductIndexProjection {
+
+    Long getId();
+
+    String getName();
+
+    BigDecimal getPrice();
+
+    Instant getCreatedAt();
+
+    Long getCategoryId();
+
+}
@@ -0,0 +1,9 @@
+package br.edu.ifmg.produto.projections;
+
+public interface ProductPopularityProjection {
+
+    Long getProductId();
+
+    Long getCount();
+
+}
@@ -0,0 +1,17 @@
+package br.edu.ifmg.produto.projections;
+
+import java.math.BigDecimal;
+
+public interface ProductPreviewProjection {
+
+    Long getId();
+
+    Long getStoreId();
+
+    String getName();
+
+    BigDecimal getPrice();
+
+    String getImageUrl();
+
+}
@@ -0,0 +1,19 @@
+package br.edu.ifmg.produto.projections;
+
+import java.math.BigDecimal;
+
+public interface ProductTextProjection {
+
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    BigDecimal getPrice();
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+}
@@ -0,0 +1,19 @@
+package br.edu.ifmg.produto.projections;
+
+public interface StoreSummaryProjection {
+
+    Long getId();
+
+    Double getRating();
+
+    Integer getDeliveryTime();
+
+    Long getMainCategoryId();
+
+    String getMainCategoryName();
+
+    String getMainCategoryImageUrl();
+
+    Long getProductCount();
+
+}
@@ -1,9 +1,21 @@
 package br.edu.ifmg.produto.repository;
 
 import br.edu.ifmg.produto.entities.CartItem;
+import br.edu.ifmg.produto.projections.ProductPopularityProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
+
+    @Query("""
+    SELECT i.product.id AS productId, COUNT(i) AS count
+    FROM CartItem i
+    GROUP BY i.product.id
+    """)
+    List<ProductPopularityProjection> countPerProduct();
+
 }
@@ -0,0 +1,43 @@
+package br.edu.ifmg.produto.repository;
+
+import br.edu.ifmg.produto.entities.OutboxEmail;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<OutboxEmail, Long> {
+
+    /**
+     * Pending emails whose next attempt is due, oldest first, locked until the
+     * end of the transaction so that two dispatchers never claim the same row.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+            "SELECT obj FROM OutboxEmail obj " +
+            " WHERE obj.status = br.edu.ifmg.produto.entities.OutboxEmail.Status.PENDING " +
+            " AND obj.nextAttemptAt <= :now " +
+            " ORDER BY obj.nextAttemptAt, obj.id"
+    )
+    List<OutboxEmail> findDue(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * Deletes the sent and failed emails created before {@code before}.
+     */
+    @Modifying
+    @Query(
+            "DELETE FROM OutboxEmail obj " +
+            " WHERE obj.status <> br.edu.ifmg.produto.entities.OutboxEmail.Status.PENDING " +
+            " AND obj.createdAt < :before"
+    )
+    int deleteFinishedBefore(@Param("before") Instant before);
+
+}
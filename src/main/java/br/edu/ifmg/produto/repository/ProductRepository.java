@@ -1,38 +1,152 @@
 package br.edu.ifmg.produto.repository;
 
 import br.edu.ifmg.produto.entities.Product;
+import br.edu.ifmg.produto.projections.CategoryFacetProjection;
+import br.edu.ifmg.produto.projections.PriceFacetProjection;
+import br.edu.ifmg.produto.projections.ProductTextProjection;
+import br.edu.ifmg.produto.projections.ProductIndexProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
+
+        // Name filters compare against the normalized columns, so callers pass
+        // :name already folded with TextNormalizer.fold. A substring LIKE cannot
+        // seek an index; these queries only serve name filters while the search
+        // indexes are loading, or in orders ProductSearchIndex cannot sort by.
 
         @Query("""
         SELECT DISTINCT p FROM Product p
         LEFT JOIN p.categories c
         WHERE (:categoryId IS NULL OR c.id = :categoryId)
-        AND (:name IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%')))
+        AND (:name IS NULL OR p.nameNormalized LIKE CONCAT('%', :name, '%'))
         """)
-        Page<Product> findAllByCategoryAndName(
+        Slice<Product> findAllByCategoryAndName(
         @Param("categoryId") Long categoryId,
         @Param("name") String name,
         Pageable pageable);
 
+        @Query("""
+        SELECT COUNT(DISTINCT p) FROM Product p
+        LEFT JOIN p.categories c
+        WHERE (:categoryId IS NULL OR c.id = :categoryId)
+        AND (:name IS NULL OR p.nameNormalized LIKE CONCAT('%', :name, '%'))
+        """)
+        long countByCategoryAndName(
+        @Param("categoryId") Long categoryId,
+        @Param("name") String name);
+
 
         @Query("""
         SELECT p FROM Product p
         LEFT JOIN p.categories c
-        WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%')) OR
-        LOWER(c.name) LIKE LOWER(CONCAT('%', :name, '%'))
+        WHERE p.nameNormalized LIKE CONCAT('%', :name, '%') OR
+        c.nameNormalized LIKE CONCAT('%', :name, '%')
         """)
         Page<Product> searchByName(@Param("name") String name, Pageable pageable);
 
-        @EntityGraph(attributePaths = {"categories"})
-        Page<Product> findByStoreId(Long storeId, Pageable pageable);
+        // Facets: one GROUP BY per facet over the same filters as the listings above.
+        // Price ranges are grouped over a derived table so the bound width parameter
+        // appears once, which is what lets the database match it to the GROUP BY.
+        // Category counts ignore the categoryId filter, so the other categories still
+        // show how many products they would return.
+        @Query("""
+        SELECT c.id AS categoryId, c.name AS name, COUNT(p) AS count
+        FROM Product p
+        JOIN p.categories c
+        WHERE (:name IS NULL OR p.nameNormalized LIKE CONCAT('%', :name, '%'))
+        GROUP BY c.id, c.name
+        ORDER BY COUNT(p) DESC, c.id
+        """)
+        List<CategoryFacetProjection> countPerCategoryByName(@Param("name") String name);
+
+        @Query("""
+        SELECT b.bucket AS bucket, COUNT(*) AS count
+        FROM (
+            SELECT FLOOR(p.price / :width) AS bucket
+            FROM Product p
+            WHERE (:categoryId IS NULL OR EXISTS (SELECT 1 FROM p.categories c WHERE c.id = :categoryId))
+            AND (:name IS NULL OR p.nameNormalized LIKE CONCAT('%', :name, '%'))
+        ) b
+        GROUP BY b.bucket
+        ORDER BY b.bucket
+        """)
+        List<PriceFacetProjection> countPerPriceByCategoryAndName(
+        @Param("categoryId") Long categoryId,
+        @Param("name") String name,
+        @Param("width") BigDecimal width);
+
+        @Query("""
+        SELECT c.id AS categoryId, c.name AS name, COUNT(p) AS count
+        FROM Product p
+        JOIN p.categories c
+        WHERE p.nameNormalized LIKE CONCAT('%', :name, '%')
+        OR EXISTS (SELECT 1 FROM p.categories m WHERE m.nameNormalized LIKE CONCAT('%', :name, '%'))
+        GROUP BY c.id, c.name
+        ORDER BY COUNT(p) DESC, c.id
+        """)
+        List<CategoryFacetProjection> countPerCategoryBySearch(@Param("name") String name);
+
+        @Query("""
+        SELECT b.bucket AS bucket, COUNT(*) AS count
+        FROM (
+            SELECT FLOOR(p.price / :width) AS bucket
+            FROM Product p
+            WHERE p.nameNormalized LIKE CONCAT('%', :name, '%')
+            OR EXISTS (SELECT 1 FROM p.categories m WHERE m.nameNormalized LIKE CONCAT('%', :name, '%'))
+        ) b
+        GROUP BY b.bucket
+        ORDER BY b.bucket
+        """)
+        List<PriceFacetProjection> countPerPriceBySearch(
+        @Param("name") String name,
+        @Param("width") BigDecimal width);
+
+        Slice<Product> findByStoreId(Long storeId, Pageable pageable);
+
+        long countByStoreId(Long storeId);
+
+        @QueryHints({
+                @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+                @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+        })
+        @Query("SELECT p FROM Product p WHERE p.store.id = :storeId ORDER BY p.id")
+        Stream<Product> streamByStoreId(@Param("storeId") Long storeId);
+
+        Slice<Product> findSliceBy(Pageable pageable);
+
+        @Query("""
+        SELECT p.id AS id, p.name AS name, p.price AS price, p.createdAt AS createdAt, c.id AS categoryId
+        FROM Product p
+        LEFT JOIN p.categories c
+        """)
+        List<ProductIndexProjection> findIndexEntries();
+
+        @Query("SELECT COALESCE(MAX(p.id), 0) FROM Product p")
+        long findMaxId();
+
+        @Query("""
+        SELECT p.id AS id, p.name AS name, p.description AS description, p.price AS price,
+        c.id AS categoryId, c.name AS categoryName
+        FROM Product p
+        LEFT JOIN p.categories c
+        WHERE p.id BETWEEN :fromId AND :toId
+        ORDER BY p.id
+        """)
+        List<ProductTextProjection> findTextEntries(@Param("fromId") long fromId, @Param("toId") long toId);
 
 }
@@ -0,0 +1,52 @@
+package br.edu.ifmg.produto.repository;
+
+import br.edu.ifmg.produto.entities.Category;
+import br.edu.ifmg.produto.entities.Product;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Filters for the keyset-paginated product listings. Name filters compare
+ * against the normalized columns, so callers pass values already folded with
+ * TextNormalizer.fold.
+ */
+public final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    public static Specification<Product> all() {
+        return (root, query, cb) -> null;
+    }
+
+    public static Specification<Product> inCategory(Long categoryId) {
+        return (root, query, cb) -> cb.equal(root.join("categories").get("id"), categoryId);
+    }
+
+    public static Specification<Product> nameContains(String name) {
+        return (root, query, cb) -> cb.like(root.get("nameNormalized"), "%" + escape(name) + "%", '\\');
+    }
+
+    /**
+     * Products whose name or the name of one of its categories contains
+     * {@code name}; the category match is an EXISTS, so no product repeats.
+     */
+    public static Specification<Product> nameOrCategoryNameContains(String name) {
+        return (root, query, cb) -> {
+            String pattern = "%" + escape(name) + "%";
+            Subquery<Long> categories = query.subquery(Long.class);
+            Root<Product> product = categories.correlate(root);
+            Join<Product, Category> category = product.join("categories");
+            categories.select(category.get("id"))
+                    .where(cb.like(category.get("nameNormalized"), pattern, '\\'));
+            return cb.or(cb.like(root.get("nameNormalized"), pattern, '\\'), cb.exists(categories));
+        };
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+}
@@ -1,12 +1,61 @@
 package br.edu.ifmg.produto.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+
 import br.edu.ifmg.produto.entities.Store;
 
+import br.edu.ifmg.produto.projections.ProductPreviewProjection;
+import br.edu.ifmg.produto.projections.StoreSummaryProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface StoreRepository extends JpaRepository<Store, Long> {
     Optional<Store> findByOwnerEmail(String email);
+
+    @Query("""
+    SELECT s.id AS id, s.rating AS rating, s.deliveryTime AS deliveryTime,
+           c.id AS mainCategoryId, c.name AS mainCategoryName, c.imageUrl AS mainCategoryImageUrl,
+           s.productCount AS productCount
+    FROM Store s
+    LEFT JOIN s.mainCategory c
+    ORDER BY s.rating DESC, s.id
+    """)
+    List<StoreSummaryProjection> findTopSummaries(Limit limit);
+
+    @Modifying
+    @Query("UPDATE Store s SET s.productCount = s.productCount + :delta WHERE s.id = :storeId")
+    void addProductCount(@Param("storeId") Long storeId, @Param("delta") long delta);
+
+    // For each store, the id of its perStore-th product bounds a range scan of
+    // ix_product_store (store_id, id), so each store reads at most perStore
+    // index entries whatever the size of its catalog. Stores with fewer
+    // products have no such id and return all of them.
+    @Query(nativeQuery = true,
+            value = """
+                    SELECT p.id, p.store_id AS storeId, p.name, p.price, p.image_url AS imageUrl
+                    FROM (
+                        SELECT s.id AS store_id,
+                               (SELECT q.id FROM tb_product q
+                                WHERE q.store_id = s.id
+                                ORDER BY q.id
+                                OFFSET (:perStore - 1) ROWS FETCH NEXT 1 ROW ONLY) AS last_id
+                        FROM tb_store s
+                        WHERE s.id IN (:storeIds)
+                    ) b
+                    JOIN tb_product p
+                      ON p.store_id = b.store_id
+                     AND p.id <= COALESCE(b.last_id, 9223372036854775807)
+                    ORDER BY p.store_id, p.id
+                    """
+    )
+    List<ProductPreviewProjection> findPreviewProducts(
+            @Param("storeIds") Collection<Long> storeIds,
+            @Param("perStore") int perStore);
 }
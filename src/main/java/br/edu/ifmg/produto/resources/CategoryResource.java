@@ -1,6 +1,8 @@
 package br.edu.ifmg.produto.resources;
 
 import br.edu.ifmg.produto.dtos.CategoryDTO;
+import br.edu.ifmg.produto.resources.etag.EntityTags;
+import br.edu.ifmg.produto.resources.links.LinkFactory;
 import br.edu.ifmg.produto.services.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,10 +22,6 @@ import java.net.URI;
 import java.util.List;
 
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
-
 @RestController
 @RequestMapping(value = "/category")
 @Tag(name = "Category", description = "Operations related to product categories")
@@ -32,6 +30,9 @@ public class CategoryResource {
     @Autowired
     private CategoryService categoryService;
 
+    @Autowired
+    private LinkFactory linkFactory;
+
     @Operation(
             summary = "List all categories",
             description = "Returns a list of all categories.")
@@ -44,7 +45,7 @@ public class CategoryResource {
     @GetMapping
     public ResponseEntity<List<CategoryDTO>> findAll() {
         List<CategoryDTO> categories = categoryService.findAll();
-        return ResponseEntity.ok(categories);
+        return EntityTags.ok(EntityTags.ofCategories(categories)).body(categories);
     }
 
     @Operation(
@@ -57,14 +58,15 @@ public class CategoryResource {
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = CategoryDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Category not modified since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Category not found")
     })
     @GetMapping(value = "/{id}", produces = "application/json")
     public ResponseEntity<CategoryDTO> findById(
             @Parameter(description = "ID of the category to retrieve") @PathVariable Long id) {
         CategoryDTO dto = categoryService.findById(id);
-        addCategoryLinks(dto);
-        return ResponseEntity.ok().body(dto);
+        linkFactory.addCategoryLinks(dto);
+        return EntityTags.ok(EntityTags.of(dto), dto.getVersion()).body(dto);
     }
 
     @Operation(
@@ -84,7 +86,7 @@ public class CategoryResource {
     public ResponseEntity<CategoryDTO> insert(
             @Parameter(description = "Category data to insert") @Valid @RequestBody CategoryDTO dto) {
         dto = categoryService.insert(dto);
-        addCategoryLinks(dto);
+        linkFactory.addCategoryLinks(dto);
         URI uri = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(dto.getId()).toUri();
         return ResponseEntity.created(uri).body(dto);
     }
@@ -108,7 +110,7 @@ public class CategoryResource {
             @Parameter(description = "ID of the category to update") @PathVariable Long id,
             @Parameter(description = "Updated category data") @Valid @RequestBody CategoryDTO dto) {
         dto = categoryService.update(id, dto);
-        addCategoryLinks(dto);
+        linkFactory.addCategoryLinks(dto);
         return ResponseEntity.ok().body(dto);
     }
 
@@ -127,11 +129,4 @@ public class CategoryResource {
         return ResponseEntity.noContent().build();
     }
 
-    private void addCategoryLinks(CategoryDTO dto) {
-        dto.add(linkTo(methodOn(CategoryResource.class).findById(dto.getId())).withSelfRel());
-        dto.add(linkTo(methodOn(CategoryResource.class).findAll()).withRel("all-categories"));
-        dto.add(linkTo(methodOn(CategoryResource.class).delete(dto.getId())).withRel("delete"));
-        dto.add(linkTo(methodOn(CategoryResource.class).update(dto.getId(), dto)).withRel("update"));
-    }
-
 }
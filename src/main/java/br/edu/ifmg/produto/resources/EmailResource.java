@@ -31,17 +31,18 @@ public class EmailResource {
     )
     @Operation(
             summary = "Send an email",
-            description = "Sends a plain-text email using the provided data such as recipient, subject, and body."
+            description = "Queues a plain-text email using the provided data such as recipient, subject, and body. "
+                    + "It is sent in the background, with retries, after the request returns."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "204", description = "Email sent successfully (no content returned)."),
+            @ApiResponse(responseCode = "202", description = "Email queued for sending (no content returned)."),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
     })
     @PostMapping
     public ResponseEntity<Void> sendEmail(@Valid @RequestBody EmailDTO dto) {
-        emailService.sendEmail(dto);
-        return ResponseEntity.noContent().build();
+        emailService.queueEmail(dto);
+        return ResponseEntity.accepted().build();
     }
 
 }
@@ -1,11 +1,25 @@
 package br.edu.ifmg.produto.resources;
 
 
+import br.edu.ifmg.produto.dtos.CursorPageDTO;
+import br.edu.ifmg.produto.dtos.FacetedPageDTO;
 import br.edu.ifmg.produto.dtos.ProductDTO;
+import br.edu.ifmg.produto.dtos.ProductImportReportDTO;
 import br.edu.ifmg.produto.dtos.ProductListDTO;
-import br.edu.ifmg.produto.dtos.StoreDTO;
+import br.edu.ifmg.produto.dtos.SuggestionDTO;
+import br.edu.ifmg.produto.entities.Store;
+import br.edu.ifmg.produto.resources.etag.EntityTags;
+import br.edu.ifmg.produto.resources.links.LinkFactory;
 import br.edu.ifmg.produto.services.AuthService;
 import br.edu.ifmg.produto.services.ProductService;
+import br.edu.ifmg.produto.services.exports.ProductExportService;
+import br.edu.ifmg.produto.services.imports.ProductFileFormat;
+import br.edu.ifmg.produto.services.imports.ProductImportService;
+import br.edu.ifmg.produto.services.pagination.CountMode;
+import br.edu.ifmg.produto.services.search.PrefixTrie;
+import br.edu.ifmg.produto.services.search.ProductFacetService;
+import br.edu.ifmg.produto.services.search.ProductSuggester;
+import br.edu.ifmg.produto.services.search.SpellingCorrector;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,34 +27,58 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping(value = "/product")
 @Tag(name = "Product", description = "Controller/Resource for products")
 public class ProductResource {
 
+    static final String CORRECTED_QUERY_HEADER = "X-Corrected-Query";
+
     @Autowired
     private ProductService productService;
 
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductExportService productExportService;
+
+    @Autowired
+    private ProductFacetService productFacetService;
+
+    @Autowired
+    private ProductSuggester productSuggester;
+
+    @Autowired
+    private SpellingCorrector spellingCorrector;
+
+    @Autowired
+    private LinkFactory linkFactory;
+
     @Operation(
             summary = "List all products",
             description = "Returns a paginated list of all products.")
@@ -49,10 +87,34 @@ public class ProductResource {
             description = "List retrieved successfully",
             content = @Content(mediaType = "application/json"))
     @GetMapping(produces = "application/json")
-    public ResponseEntity<Page<ProductDTO>> findAll(@ParameterObject Pageable pageable) {
-        Page<ProductDTO> page = productService.findAll(pageable);
-        page.forEach(this::addProductLinks);
-        return ResponseEntity.ok().body(page);
+    public ResponseEntity<Slice<ProductDTO>> findAll(
+            @Parameter(description = "Total count mode: exact (cached), approximate or none (no total, for infinite scroll)")
+            @RequestParam(value = "count", defaultValue = "exact") String count,
+            @ParameterObject Pageable pageable) {
+        Slice<ProductDTO> page = productService.findAll(pageable, CountMode.fromParam(count));
+        page.forEach(linkFactory::addProductLinks);
+        return EntityTags.ok(EntityTags.ofProducts(page)).body(page);
+    }
+
+    @Operation(
+            summary = "List all products by cursor",
+            description = "Returns products after the given keyset cursor. Pass an empty 'after' to get the first page; " +
+                    "sortable by id, name, price or createdAt.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page retrieved successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or sort")
+    })
+    @GetMapping(produces = "application/json", params = "after")
+    public ResponseEntity<CursorPageDTO<ProductDTO>> findAllByCursor(
+            @Parameter(description = "Cursor returned as 'nextCursor' by the previous page")
+            @RequestParam(value = "after") String after,
+            @ParameterObject Pageable pageable) {
+        CursorPageDTO<ProductDTO> page = productService.findAll(after, pageable);
+        page.getContent().forEach(linkFactory::addProductLinks);
+        return EntityTags.ok(EntityTags.ofProducts(page)).body(page);
     }
 
     @Operation(
@@ -63,14 +125,15 @@ public class ProductResource {
                     responseCode = "200",
                     description = "Product found",
                     content = @Content(schema = @Schema(implementation = ProductDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Product not modified since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Product not found")
     })
     @GetMapping(value = "/{id}", produces = "application/json")
     public ResponseEntity<ProductDTO> findById(
             @Parameter(description = "ID of the product to retrieve") @PathVariable Long id) {
         ProductDTO dto = productService.findById(id);
-        addProductLinks(dto);
-        return ResponseEntity.ok().body(dto);
+        linkFactory.addProductLinks(dto);
+        return EntityTags.ok(EntityTags.of(dto), dto.getVersion()).body(dto);
     }
 
     @Operation(
@@ -88,11 +151,35 @@ public class ProductResource {
     public ResponseEntity<ProductDTO> insert(
             @Parameter(description = "Product data to insert") @Valid @RequestBody ProductDTO dto) {
         dto = productService.insert(dto);
-        addProductLinks(dto);
+        linkFactory.addProductLinks(dto);
         URI uri = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(dto.getId()).toUri();
         return ResponseEntity.created(uri).body(dto);
     }
 
+    @Operation(
+            summary = "Bulk import products",
+            description = "Creates the products of an NDJSON or CSV stream in the authenticated store. " +
+                    "Each line is validated on its own; invalid lines are listed in the report and skipped. " +
+                    "Only ADMIN or SELLER users can perform this operation.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import finished",
+                    content = @Content(schema = @Schema(implementation = ProductImportReportDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid CSV header"),
+            @ApiResponse(responseCode = "415", description = "Unsupported content type")
+    })
+    @PostMapping(value = "/import", produces = "application/json",
+            consumes = {ProductFileFormat.NDJSON_VALUE, ProductFileFormat.CSV_VALUE})
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_SELLER')")
+    public ResponseEntity<ProductImportReportDTO> importProducts(
+            @RequestHeader("Content-Type") String contentType,
+            InputStream body) throws IOException {
+        ProductImportReportDTO report = productImportService.importProducts(
+                body, ProductFileFormat.fromContentType(contentType));
+        return ResponseEntity.ok(report);
+    }
+
     @Operation(
             summary = "Update product",
             description = "Updates the product with the given ID. Only ADMIN or SELLER users can perform this operation.")
@@ -110,7 +197,7 @@ public class ProductResource {
             @Parameter(description = "ID of the product to update") @PathVariable Long id,
             @Parameter(description = "Updated product data") @Valid @RequestBody ProductDTO dto) {
         dto = productService.update(id, dto);
-        addProductLinks(dto);
+        linkFactory.addProductLinks(dto);
         return ResponseEntity.ok().body(dto);
     }
 
@@ -131,7 +218,9 @@ public class ProductResource {
 
     @Operation(
             summary = "Find products by category",
-            description = "Returns a paginated list of products filtered by category ID and/or name.")
+            description = "Returns a paginated list of products filtered by category ID and/or name. " +
+                    "With facets=true the page also carries product counts per category (ignoring the " +
+                    "categoryId filter) and per price range, computed with one aggregate query each.")
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
@@ -139,17 +228,58 @@ public class ProductResource {
                     content = @Content(mediaType = "application/json"))
     })
     @GetMapping(value = "/category", produces = "application/json")
-    public ResponseEntity<Page<ProductListDTO>> findAllProductsByCategory(
+    public ResponseEntity<Slice<ProductListDTO>> findAllProductsByCategory(
             @Parameter(description = "Category ID to filter by", required = false)
             @RequestParam(value = "categoryId", required = false) Long categoryId,
 
             @Parameter(description = "Product name to search", required = false)
             @RequestParam(value = "name", required = false) String name,
 
+            @Parameter(description = "Total count mode: exact (cached), approximate or none (no total, for infinite scroll)")
+            @RequestParam(value = "count", defaultValue = "exact") String count,
+
+            @Parameter(description = "Also return product counts per category and price range as 'facets'")
+            @RequestParam(value = "facets", defaultValue = "false") boolean facets,
+
             @ParameterObject Pageable pageable) {
 
-        Page<ProductListDTO> dtos = productService.findAllProductsByCategory(categoryId, name, pageable);
-        return ResponseEntity.ok(dtos);
+        if (facets) {
+            // the total comes from the price facet, so the listing skips its count query
+            Slice<ProductListDTO> dtos = new FacetedPageDTO<>(
+                    productService.findAllProductsByCategory(categoryId, name, pageable, CountMode.NONE),
+                    productFacetService.facetsByCategory(categoryId, name));
+            return EntityTags.ok(EntityTags.ofProductList(dtos)).body(dtos);
+        }
+        Slice<ProductListDTO> dtos = productService.findAllProductsByCategory(
+                categoryId, name, pageable, CountMode.fromParam(count));
+        return EntityTags.ok(EntityTags.ofProductList(dtos)).body(dtos);
+    }
+
+    @Operation(
+            summary = "Find products by category using a cursor",
+            description = "Keyset-paginated variant of the category listing. Pass an empty 'after' to get the first page.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Products retrieved successfully",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or sort")
+    })
+    @GetMapping(value = "/category", produces = "application/json", params = "after")
+    public ResponseEntity<CursorPageDTO<ProductListDTO>> findAllProductsByCategoryByCursor(
+            @Parameter(description = "Category ID to filter by", required = false)
+            @RequestParam(value = "categoryId", required = false) Long categoryId,
+
+            @Parameter(description = "Product name to search", required = false)
+            @RequestParam(value = "name", required = false) String name,
+
+            @Parameter(description = "Cursor returned as 'nextCursor' by the previous page")
+            @RequestParam(value = "after") String after,
+
+            @ParameterObject Pageable pageable) {
+
+        CursorPageDTO<ProductListDTO> dtos = productService.findAllProductsByCategory(categoryId, name, after, pageable);
+        return EntityTags.ok(EntityTags.ofProductList(dtos)).body(dtos);
     }
 
     @Operation(
@@ -160,40 +290,127 @@ public class ProductResource {
     })
     @GetMapping("/store")
     @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_SELLER')")
-    public ResponseEntity<Page<ProductDTO>> getProductsByStoreId(
+    public ResponseEntity<Slice<ProductDTO>> getProductsByStoreId(
             @Parameter(description = "Page number") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sorting field") @RequestParam(defaultValue = "id") String sortBy,
-            @Parameter(description = "Sorting direction: asc or desc") @RequestParam(defaultValue = "asc") String direction
+            @Parameter(description = "Sorting direction: asc or desc") @RequestParam(defaultValue = "asc") String direction,
+            @Parameter(description = "Total count mode: exact (cached), approximate or none") @RequestParam(defaultValue = "exact") String count
     ) {
         Sort sort = direction.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        StoreDTO dto = authService.getAuthenticatedStore();
+        Store store = authService._getAuthenticatedStore();
 
-        Page<ProductDTO> products = productService.getProductsByStoreId(dto.getId(), pageable);
+        Slice<ProductDTO> products = productService.getProductsByStoreId(store.getId(), pageable, CountMode.fromParam(count));
         return ResponseEntity.ok(products);
     }
 
+    @Operation(
+            summary = "Export the authenticated store's catalog",
+            description = "Streams every product of the authenticated store, categories included, as CSV or NDJSON " +
+                    "(chosen by the Accept header, CSV by default) in the layout accepted by the import. " +
+                    "Only ADMIN or SELLER users can perform this operation.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Catalog streamed"),
+            @ApiResponse(responseCode = "406", description = "Unsupported Accept header")
+    })
+    @GetMapping(value = "/store/export", produces = {ProductFileFormat.CSV_VALUE, ProductFileFormat.NDJSON_VALUE})
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN', 'ROLE_SELLER')")
+    public void exportStoreProducts(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletResponse response) throws IOException {
+        ProductFileFormat format = ProductFileFormat.fromAccept(accept);
+        Store store = authService._getAuthenticatedStore();
+
+        response.setContentType(format.getMediaType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("catalog." + format.getExtension())
+                .build()
+                .toString());
+        productExportService.exportStoreProducts(store.getId(), format, response.getOutputStream());
+    }
+
+    @Operation(
+            summary = "Suggest search completions",
+            description = "Returns up to 'limit' product and category names with a word starting with 'prefix', " +
+                    "most popular first. Served from memory, so it is cheap enough to call on every keystroke.")
+    @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully")
+    @GetMapping(value = "/suggest", produces = "application/json")
+    public ResponseEntity<List<SuggestionDTO>> suggest(
+            @Parameter(description = "What has been typed so far; accents and case are ignored")
+            @RequestParam(value = "prefix", defaultValue = "") String prefix,
+            @Parameter(description = "Maximum number of suggestions, from 1 to 10")
+            @RequestParam(value = "limit", defaultValue = "5") int limit) {
+
+        int capped = Math.max(1, Math.min(limit, PrefixTrie.TOP));
+        return ResponseEntity.ok(productSuggester.suggest(prefix, capped));
+    }
+
     @Operation(
             summary = "Search products by name",
-            description = "Returns a paginated list of products filtered by name.")
+            description = "Returns a paginated list of products filtered by name. " +
+                    "With facets=true the page also carries product counts per category and per price range. " +
+                    "When the first page is empty and a misspelled word has a close match in the catalog, " +
+                    "the search is retried with it and the query used is returned in the " + CORRECTED_QUERY_HEADER + " header.")
     @ApiResponse(responseCode = "200", description = "Products retrieved successfully")
     @GetMapping(value = "/search", produces = "application/json")
-    public ResponseEntity<Page<ProductListDTO>> search(
+    public ResponseEntity<Slice<ProductListDTO>> search(
             @Parameter(description = "Product name to search", required = false)
             @RequestParam(value = "name", required = false) String name,
+            @Parameter(description = "Total count mode: exact (cached), approximate or none (no total, for infinite scroll)")
+            @RequestParam(value = "count", defaultValue = "exact") String count,
+            @Parameter(description = "Also return product counts per category and price range as 'facets'")
+            @RequestParam(value = "facets", defaultValue = "false") boolean facets,
+            @Parameter(description = "When nothing matches, retry with misspelled words corrected")
+            @RequestParam(value = "correct", defaultValue = "true") boolean correct,
             @ParameterObject Pageable pageable) {
 
-        Page<ProductListDTO> dtos = productService.search(name, pageable);
-        return ResponseEntity.ok(dtos);
+        Slice<ProductListDTO> dtos = search(name, facets, count, pageable);
+        boolean firstPage = pageable.isUnpaged() || pageable.getPageNumber() == 0;
+        if (name == null || !correct || !firstPage || dtos.hasContent()) {
+            return EntityTags.ok(EntityTags.ofProductList(dtos)).body(dtos);
+        }
+        Optional<String> correction = spellingCorrector.correct(name);
+        if (correction.isEmpty()) {
+            return EntityTags.ok(EntityTags.ofProductList(dtos)).body(dtos);
+        }
+        Slice<ProductListDTO> corrected = search(correction.get(), facets, count, pageable);
+        return EntityTags.ok(EntityTags.ofProductList(corrected))
+                .header(CORRECTED_QUERY_HEADER, correction.get())
+                .body(corrected);
+    }
+
+    private Slice<ProductListDTO> search(String name, boolean facets, String count, Pageable pageable) {
+        if (facets) {
+            // the total comes from the facets, so both must count the same matches
+            boolean fullText = productService.searchesFullText(pageable.getSort());
+            return new FacetedPageDTO<>(
+                    productService.search(name, pageable, CountMode.NONE, fullText),
+                    productFacetService.facetsBySearch(name, fullText));
+        }
+        return productService.search(name, pageable, CountMode.fromParam(count));
     }
 
-    private void addProductLinks(ProductDTO dto) {
-        dto.add(linkTo(methodOn(ProductResource.class).findById(dto.getId())).withSelfRel());
-        dto.add(linkTo(methodOn(ProductResource.class).findAll(Pageable.unpaged())).withRel("all-products"));
-        dto.add(linkTo(methodOn(ProductResource.class).delete(dto.getId())).withRel("delete"));
-        dto.add(linkTo(methodOn(ProductResource.class).update(dto.getId(), dto)).withRel("update"));
+    @Operation(
+            summary = "Search products by name using a cursor",
+            description = "Keyset-paginated variant of the product search. Pass an empty 'after' to get the first page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Products retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or sort")
+    })
+    @GetMapping(value = "/search", produces = "application/json", params = "after")
+    public ResponseEntity<CursorPageDTO<ProductListDTO>> searchByCursor(
+            @Parameter(description = "Product name to search", required = false)
+            @RequestParam(value = "name", required = false) String name,
+
+            @Parameter(description = "Cursor returned as 'nextCursor' by the previous page")
+            @RequestParam(value = "after") String after,
+
+            @ParameterObject Pageable pageable) {
+
+        CursorPageDTO<ProductListDTO> dtos = productService.search(name, after, pageable);
+        return EntityTags.ok(EntityTags.ofProductList(dtos)).body(dtos);
     }
 
 }
@@ -1,16 +1,24 @@
 package br.edu.ifmg.produto.resources;
 
-import br.edu.ifmg.produto.dtos.StoreDTO;
+import br.edu.ifmg.produto.dtos.ProductDTO;
+import br.edu.ifmg.produto.dtos.StoreSummaryDTO;
 import br.edu.ifmg.produto.services.StoreService;
+import br.edu.ifmg.produto.services.pagination.CountMode;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -25,22 +33,41 @@ public class StoreResource {
 
     @Operation(
             summary = "Get top stores",
-            description = "Returns a list of top-rated or featured stores for homepage display.",
+            description = "Returns compact cards of the top-rated stores for homepage display, " +
+                    "with their product count and a few preview products.",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
                             description = "List of top stores",
                             content = @Content(
                                     mediaType = "application/json",
-                                    schema = @Schema(implementation = StoreDTO.class)
+                                    schema = @Schema(implementation = StoreSummaryDTO.class)
                             )
                     )
             }
     )
     @GetMapping(value = "/home", produces = "application/json")
-    public ResponseEntity<List<StoreDTO>> getTopStores() {
-        List<StoreDTO> stores = storeService.getTopStores();
+    public ResponseEntity<List<StoreSummaryDTO>> getTopStores() {
+        List<StoreSummaryDTO> stores = storeService.getTopStores();
         return ResponseEntity.ok(stores);
     }
 
+    @Operation(
+            summary = "Get products of a store",
+            description = "Returns a paginated list of the products offered by the given store.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Products retrieved successfully"),
+                    @ApiResponse(responseCode = "404", description = "Store not found")
+            }
+    )
+    @GetMapping(value = "/{id}/products", produces = "application/json")
+    public ResponseEntity<Slice<ProductDTO>> getStoreProducts(
+            @Parameter(description = "ID of the store") @PathVariable Long id,
+            @Parameter(description = "Total count mode: exact (cached), approximate or none")
+            @RequestParam(value = "count", defaultValue = "exact") String count,
+            @ParameterObject Pageable pageable) {
+        Slice<ProductDTO> products = storeService.getStoreProducts(id, pageable, CountMode.fromParam(count));
+        return ResponseEntity.ok(products);
+    }
+
 }
@@ -0,0 +1,134 @@
+package br.edu.ifmg.produto.resources.etag;
+
+import br.edu.ifmg.produto.dtos.CategoryDTO;
+import br.edu.ifmg.produto.dtos.CursorPageDTO;
+import br.edu.ifmg.produto.dtos.FacetedPageDTO;
+import br.edu.ifmg.produto.dtos.ProductDTO;
+import br.edu.ifmg.produto.dtos.ProductFacetsDTO;
+import br.edu.ifmg.produto.dtos.ProductListDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Strong entity tags computed from the ids and versions (last update instant)
+ * of the DTOs in a response, so a conditional GET can be answered without
+ * serializing the body. Spring MVC replies {@code 304 Not Modified} by itself
+ * when a {@code 200} {@link ResponseEntity} carries a matching ETag or
+ * Last-Modified header.
+ */
+public final class EntityTags {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private long hash = FNV_OFFSET;
+
+    private EntityTags() {
+    }
+
+    public static ResponseEntity.BodyBuilder ok(String eTag) {
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache());
+    }
+
+    public static ResponseEntity.BodyBuilder ok(String eTag, Instant lastModified) {
+        ResponseEntity.BodyBuilder builder = ok(eTag);
+        return lastModified != null ? builder.lastModified(lastModified) : builder;
+    }
+
+    public static String of(ProductDTO dto) {
+        return new EntityTags().add(dto).value();
+    }
+
+    public static String of(CategoryDTO dto) {
+        return new EntityTags().add(dto).value();
+    }
+
+    public static String ofCategories(Collection<CategoryDTO> dtos) {
+        EntityTags tags = new EntityTags().add(dtos.size());
+        dtos.forEach(tags::add);
+        return tags.value();
+    }
+
+    public static String ofProducts(Slice<ProductDTO> slice) {
+        EntityTags tags = new EntityTags().add(slice);
+        slice.forEach(tags::add);
+        return tags.value();
+    }
+
+    public static String ofProductList(Slice<ProductListDTO> slice) {
+        EntityTags tags = new EntityTags().add(slice);
+        slice.forEach(tags::add);
+        return tags.value();
+    }
+
+    public static String ofProducts(CursorPageDTO<ProductDTO> page) {
+        EntityTags tags = new EntityTags().add(page.getContent().size()).add(page.isHasNext() ? 1 : 0);
+        page.getContent().forEach(tags::add);
+        return tags.value();
+    }
+
+    public static String ofProductList(CursorPageDTO<ProductListDTO> page) {
+        EntityTags tags = new EntityTags().add(page.getContent().size()).add(page.isHasNext() ? 1 : 0);
+        page.getContent().forEach(tags::add);
+        return tags.value();
+    }
+
+    private EntityTags add(Slice<?> slice) {
+        add(slice.getNumber()).add(slice.getNumberOfElements()).add(slice.hasNext() ? 1 : 0);
+        add(slice instanceof Page<?> page ? page.getTotalElements() : -1);
+        return slice instanceof FacetedPageDTO<?> faceted ? add(faceted.getFacets()) : this;
+    }
+
+    private EntityTags add(ProductFacetsDTO facets) {
+        add(facets.getCategories().size());
+        facets.getCategories().forEach(facet -> add(facet.getId()).add(facet.getCount()));
+        add(facets.getPrices().size());
+        facets.getPrices().forEach(facet -> add(facet.getMin() == null ? -1 : facet.getMin().hashCode()).add(facet.getCount()));
+        return this;
+    }
+
+    private EntityTags add(ProductDTO dto) {
+        add(dto.getId()).add(dto.getVersion()).add(dto.getCategories().size());
+        // categories come from a HashSet, so their order is not stable between loads
+        dto.getCategories().stream()
+                .sorted(Comparator.comparing(CategoryDTO::getId, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(this::add);
+        return this;
+    }
+
+    private EntityTags add(ProductListDTO dto) {
+        return add(dto.getId()).add(dto.getVersion());
+    }
+
+    private EntityTags add(CategoryDTO dto) {
+        return add(dto.getId()).add(dto.getVersion());
+    }
+
+    private EntityTags add(Instant instant) {
+        return instant == null ? add(0) : add(instant.getEpochSecond()).add(instant.getNano());
+    }
+
+    private EntityTags add(Long value) {
+        return add(Objects.requireNonNullElse(value, 0L).longValue());
+    }
+
+    private EntityTags add(long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return this;
+    }
+
+    private String value() {
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+}
@@ -59,13 +59,6 @@ public class ResourceExceptionListener {
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
     }
 
-    @ExceptionHandler(EmailException.class)
-    public ResponseEntity<StandardError> handleEmailException(EmailException ex, HttpServletRequest request) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
-                buildError(HttpStatus.BAD_REQUEST, "Email error", ex.getMessage(), request.getRequestURI())
-        );
-    }
-
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<StandardError> handleAccessDenied(AccessDeniedException ex, HttpServletRequest request) {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(
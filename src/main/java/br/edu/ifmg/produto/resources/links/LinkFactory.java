@@ -0,0 +1,81 @@
+package br.edu.ifmg.produto.resources.links;
+
+import br.edu.ifmg.produto.dtos.CategoryDTO;
+import br.edu.ifmg.produto.dtos.ProductDTO;
+import br.edu.ifmg.produto.resources.CategoryResource;
+import br.edu.ifmg.produto.resources.ProductResource;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Builds the HATEOAS links of product and category DTOs from path templates
+ * read once from the controller mappings. The base URI is resolved once per
+ * request, so adding links to a page costs a few string concatenations per
+ * element instead of a {@code linkTo(methodOn(...))} proxy round-trip.
+ * Clients can skip links entirely with {@code ?links=false}.
+ */
+@Component
+public class LinkFactory {
+
+    public static final String LINKS_PARAM = "links";
+
+    private static final String BASE_URI_ATTRIBUTE = LinkFactory.class.getName() + ".BASE_URI";
+
+    private final String productPath = mappingOf(ProductResource.class);
+    private final String categoryPath = mappingOf(CategoryResource.class);
+
+    public void addProductLinks(ProductDTO dto) {
+        String base = baseUri();
+        if (base == null) {
+            return;
+        }
+        String self = base + productPath + "/" + dto.getId();
+        dto.add(Link.of(self, IanaLinkRelations.SELF),
+                Link.of(base + productPath, "all-products"),
+                Link.of(self, "delete"),
+                Link.of(self, "update"));
+    }
+
+    public void addCategoryLinks(CategoryDTO dto) {
+        String base = baseUri();
+        if (base == null) {
+            return;
+        }
+        String self = base + categoryPath + "/" + dto.getId();
+        dto.add(Link.of(self, IanaLinkRelations.SELF),
+                Link.of(base + categoryPath, "all-categories"),
+                Link.of(self, "delete"),
+                Link.of(self, "update"));
+    }
+
+    /**
+     * Base URI of the current request, or {@code null} when links were disabled.
+     */
+    private String baseUri() {
+        RequestAttributes attributes = RequestContextHolder.currentRequestAttributes();
+        Object cached = attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) {
+            return cached instanceof String base ? base : null;
+        }
+
+        String param = ((ServletRequestAttributes) attributes).getRequest().getParameter(LINKS_PARAM);
+        Object base = "false".equalsIgnoreCase(param)
+                ? Boolean.FALSE
+                : ServletUriComponentsBuilder.fromCurrentContextPath().build().toUriString();
+        attributes.setAttribute(BASE_URI_ATTRIBUTE, base, RequestAttributes.SCOPE_REQUEST);
+        return base instanceof String value ? value : null;
+    }
+
+    private static String mappingOf(Class<?> controller) {
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class);
+        return mapping == null || mapping.path().length == 0 ? "" : mapping.path()[0];
+    }
+
+}
@@ -55,6 +55,7 @@ public class AuthService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Transactional
     public void createRecoverToken(RequestTokenDTO dto) {
         User user = userRepository.findByEmail(dto.getEmail())
                 .orElseThrow(() -> new ResourceNotFoundException("Email not found"));
@@ -69,7 +70,7 @@ public class AuthService {
 
         String body = "Acesse o link para definir uma nova senha (válido por "
                 + tokenMinutes + " minutos):\n\n" + uri + token;
-        emailService.sendEmail(new EmailDTO(user.getEmail(), "Recuperação de Senha", body));
+        emailService.queueEmail(new EmailDTO(user.getEmail(), "Recuperação de Senha", body));
     }
 
     public void savePassword(@Valid NewPasswordDTO dto) {
@@ -98,8 +99,6 @@ public class AuthService {
 
         String email = jwt.getClaimAsString("username");
 
-        jwt.getClaims().forEach((k, v) -> System.out.println(k + " => " + v));
-
 
         if (email == null || email.isBlank()) {
             throw new AccessDeniedException("[!] -> JWT token does not contain the 'username' claim!");
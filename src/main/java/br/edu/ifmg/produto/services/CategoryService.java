@@ -3,8 +3,11 @@ package br.edu.ifmg.produto.services;
 import br.edu.ifmg.produto.dtos.CategoryDTO;
 import br.edu.ifmg.produto.entities.Category;
 import br.edu.ifmg.produto.repository.CategoryRepository;
+import br.edu.ifmg.produto.services.cache.CategoryCache;
+import br.edu.ifmg.produto.services.events.CategoryChangedEvent;
 import br.edu.ifmg.produto.services.exceptions.ResourceNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,19 +21,25 @@ public class CategoryService {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional(readOnly = true)
     public List<CategoryDTO> findAll() {
-        List<Category> list = categoryRepository.findAll();
-        return list.stream()
+        return categoryCache.getAll(() -> categoryRepository.findAll()
+                .stream()
                 .map(CategoryDTO::new)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Transactional(readOnly = true)
     public CategoryDTO findById(Long id) {
-        Category entity = categoryRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("[!] -> Category not found!"));
-        return new CategoryDTO(entity);
+        return categoryCache.getById(id, key -> categoryRepository.findById(key)
+                .map(CategoryDTO::new)
+                .orElseThrow(() -> new ResourceNotFoundException("[!] -> Category not found!")));
     }
 
     @Transactional
@@ -38,6 +47,7 @@ public class CategoryService {
         Category entity = new Category();
         copyDTOToEntity(dto, entity);
         entity = categoryRepository.save(entity);
+        eventPublisher.publishEvent(CategoryChangedEvent.saved(entity));
         return new CategoryDTO(entity);
     }
 
@@ -47,6 +57,7 @@ public class CategoryService {
                 .orElseThrow(() -> new ResourceNotFoundException("[!] -> Category not found!"));
         copyDTOToEntity(dto, entity);
         entity = categoryRepository.save(entity);
+        eventPublisher.publishEvent(CategoryChangedEvent.saved(entity));
         return new CategoryDTO(entity);
     }
 
@@ -55,6 +66,7 @@ public class CategoryService {
         Category entity = categoryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("[!] -> Category not found!"));
         categoryRepository.delete(entity);
+        eventPublisher.publishEvent(CategoryChangedEvent.deleted(id));
     }
 
     private void copyDTOToEntity(CategoryDTO dto, Category entity) {
@@ -0,0 +1,234 @@
+package br.edu.ifmg.produto.services;
+
+import br.edu.ifmg.produto.entities.OutboxEmail;
+import br.edu.ifmg.produto.repository.EmailOutboxRepository;
+import br.edu.ifmg.produto.services.events.EmailQueuedEvent;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sends the emails of the outbox. Due emails are claimed in batches of
+ * {@code email.outbox.batch-size}: the claim pushes their next attempt
+ * {@code email.outbox.claim-timeout} ahead, so another dispatcher (or this
+ * one, after a crash) only retries them once that lease runs out. A batch
+ * goes out over a single SMTP connection. A failed email is retried with
+ * exponential backoff, from {@code email.outbox.initial-backoff} up to
+ * {@code email.outbox.max-backoff}, and marked FAILED after
+ * {@code email.outbox.max-attempts}.
+ * <p>
+ * Sent emails lose their body, and sent or failed emails are purged
+ * {@code email.outbox.retention} after they were queued.
+ * <p>
+ * Runs on the schedule of the {@link EmailOutboxPoller} and, asynchronously,
+ * right after a transaction that queued an email commits.
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    @Value("${spring.mail.username}")
+    private String emailFrom;
+
+    @Value("${email.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${email.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Value("${email.outbox.max-backoff:1h}")
+    private Duration maxBackoff;
+
+    @Value("${email.outbox.claim-timeout:5m}")
+    private Duration claimTimeout;
+
+    @Value("${email.outbox.retention:7d}")
+    private Duration retention;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    @Async
+    @TransactionalEventListener
+    public void onEmailQueued(EmailQueuedEvent event) {
+        requested.set(true);
+        if (lock.tryLock()) {
+            try {
+                dispatch();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Sends every email that is due, batch after batch.
+     */
+    public void dispatch() {
+        lock.lock();
+        try {
+            do {
+                requested.set(false);
+                while (sendBatch() == batchSize) {
+                    // a full batch means more may be due
+                }
+            } while (requested.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the sent and failed emails older than the retention.
+     */
+    public int purge() {
+        Integer deleted = transactionTemplate.execute(status ->
+                emailOutboxRepository.deleteFinishedBefore(Instant.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("Email outbox: {} finished emails purged", deleted);
+        }
+        return deleted == null ? 0 : deleted;
+    }
+
+    private int sendBatch() {
+        List<OutboxEmail> batch = claim();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Instant now = Instant.now();
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        List<OutboxEmail> sending = new ArrayList<>(batch.size());
+        int failed = 0;
+        for (OutboxEmail email : batch) {
+            try {
+                messages.add(message(email));
+                sending.add(email);
+            } catch (MessagingException e) {
+                fail(email, e, now);
+                failed++;
+            }
+        }
+
+        Map<Object, Exception> failures = send(messages);
+        now = Instant.now();
+        for (int i = 0; i < sending.size(); i++) {
+            OutboxEmail email = sending.get(i);
+            Exception failure = failures.get(messages.get(i));
+            if (failure == null) {
+                email.setStatus(OutboxEmail.Status.SENT);
+                email.setSentAt(now);
+                email.setBody(null);
+                email.setLastError(null);
+            } else {
+                fail(email, failure, now);
+                failed++;
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            // loads the batch in one query, so that saveAll merges without a select per email
+            emailOutboxRepository.findAllById(batch.stream().map(OutboxEmail::getId).toList());
+            emailOutboxRepository.saveAll(batch);
+        });
+        log.info("Email outbox: {} sent, {} failed", batch.size() - failed, failed);
+        return batch.size();
+    }
+
+    private List<OutboxEmail> claim() {
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<OutboxEmail> due = emailOutboxRepository.findDue(now, PageRequest.ofSize(batchSize));
+            due.forEach(email -> email.setNextAttemptAt(now.plus(claimTimeout)));
+            return due;
+        });
+    }
+
+    /**
+     * Sends the messages over one connection; failed messages are mapped to their error.
+     */
+    private Map<Object, Exception> send(List<MimeMessage> messages) {
+        if (messages.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+            return Map.of();
+        } catch (MailSendException e) {
+            if (!e.getFailedMessages().isEmpty()) {
+                return e.getFailedMessages();
+            }
+            return allFailed(messages, e);
+        } catch (MailException e) {
+            return allFailed(messages, e);
+        }
+    }
+
+    private static Map<Object, Exception> allFailed(List<MimeMessage> messages, Exception e) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        messages.forEach(message -> failures.put(message, e));
+        return failures;
+    }
+
+    private void fail(OutboxEmail email, Exception failure, Instant now) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        email.setLastError(truncate(String.valueOf(failure.getMessage())));
+        if (attempts >= maxAttempts) {
+            email.setStatus(OutboxEmail.Status.FAILED);
+            log.error("Giving up on email {} to {} after {} attempts: {}",
+                    email.getId(), email.getRecipient(), attempts, failure.getMessage());
+        } else {
+            email.setNextAttemptAt(now.plus(backoff(attempts)));
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private MimeMessage message(OutboxEmail email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setFrom(emailFrom);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody());
+        return message;
+    }
+
+    private static String truncate(String error) {
+        return error.length() > OutboxEmail.MAX_ERROR_LENGTH ? error.substring(0, OutboxEmail.MAX_ERROR_LENGTH) : error;
+    }
+
+}
@@ -0,0 +1,32 @@
+package br.edu.ifmg.produto.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drives the {@link EmailOutboxDispatcher} on a schedule: sends what is due
+ * every {@code email.outbox.poll-interval-ms} and purges finished emails every
+ * {@code email.outbox.purge-interval-ms}. Off with
+ * {@code email.outbox.poll-enabled=false}, as in the test runs (see the
+ * surefire configuration), which call the dispatcher themselves.
+ */
+@Component
+@ConditionalOnProperty(name = "email.outbox.poll-enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxPoller {
+
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:5000}")
+    public void dispatch() {
+        dispatcher.dispatch();
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        dispatcher.purge();
+    }
+
+}
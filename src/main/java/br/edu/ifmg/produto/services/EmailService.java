@@ -1,38 +1,42 @@
 package br.edu.ifmg.produto.services;
 
 import br.edu.ifmg.produto.dtos.EmailDTO;
-import br.edu.ifmg.produto.services.exceptions.EmailException;
+import br.edu.ifmg.produto.entities.OutboxEmail;
+import br.edu.ifmg.produto.repository.EmailOutboxRepository;
+import br.edu.ifmg.produto.services.events.EmailQueuedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.MailSendException;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
 
 @Service
 public class EmailService {
 
-    @Value("${spring.mail.username}")
-    private String emailFrom;
-
     @Autowired
-    private JavaMailSender mailSender;
-
-    public void sendEmail(EmailDTO emailDTO) {
-
-        try {
-
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(emailFrom);
-            message.setTo(emailDTO.getTo());
-            message.setSubject(emailDTO.getSubject());
-            message.setText(emailDTO.getBody());
-            mailSender.send(message);
-
-        } catch (MailSendException e) {
-            throw new EmailException(e.getMessage());
-        }
+    private EmailOutboxRepository emailOutboxRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Writes the email to the outbox in the caller's transaction; the
+     * {@link EmailOutboxDispatcher} sends it once that transaction commits,
+     * and never if it rolls back.
+     */
+    @Transactional
+    public void queueEmail(EmailDTO emailDTO) {
+        Instant now = Instant.now();
+        OutboxEmail email = new OutboxEmail();
+        email.setRecipient(emailDTO.getTo());
+        email.setSubject(emailDTO.getSubject());
+        email.setBody(emailDTO.getBody());
+        email.setStatus(OutboxEmail.Status.PENDING);
+        email.setNextAttemptAt(now);
+        email.setCreatedAt(now);
+        emailOutboxRepository.save(email);
+        eventPublisher.publishEvent(new EmailQueuedEvent(email.getId()));
     }
 
 }
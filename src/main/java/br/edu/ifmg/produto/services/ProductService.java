@@ -1,5 +1,6 @@
 package br.edu.ifmg.produto.services;
 
+import br.edu.ifmg.produto.dtos.CursorPageDTO;
 import br.edu.ifmg.produto.dtos.ProductDTO;
 import br.edu.ifmg.produto.dtos.ProductListDTO;
 import br.edu.ifmg.produto.dtos.StoreDTO;
@@ -7,32 +8,87 @@ import br.edu.ifmg.produto.entities.Category;
 import br.edu.ifmg.produto.entities.Product;
 import br.edu.ifmg.produto.entities.Store;
 import br.edu.ifmg.produto.repository.ProductRepository;
+import br.edu.ifmg.produto.repository.ProductSpecifications;
+import br.edu.ifmg.produto.repository.StoreRepository;
+import br.edu.ifmg.produto.services.cache.ProductCache;
+import br.edu.ifmg.produto.services.events.ProductChangedEvent;
 import br.edu.ifmg.produto.services.exceptions.ResourceNotFoundException;
+import br.edu.ifmg.produto.services.pagination.CountMode;
+import br.edu.ifmg.produto.services.pagination.ProductCountCache;
+import br.edu.ifmg.produto.services.pagination.ProductCursor;
+import br.edu.ifmg.produto.services.pagination.RowCountEstimator;
+import br.edu.ifmg.produto.services.search.ProductSearchIndex;
+import br.edu.ifmg.produto.services.search.ProductTextIndex;
+import br.edu.ifmg.produto.util.TextNormalizer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
 @Service
 public class ProductService {
 
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private StoreRepository storeRepository;
+
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private ProductSearchIndex searchIndex;
+
+    @Autowired
+    private ProductTextIndex textIndex;
+
+    @Autowired
+    private ProductCountCache countCache;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private RowCountEstimator rowCountEstimator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public Slice<ProductDTO> findAll(Pageable pageable, CountMode countMode) {
+        Slice<Product> slice = productRepository.findSliceBy(pageable);
+        return withTotal(slice, countMode, "all", productRepository::count, () -> rowCountEstimator.estimate("tb_product"))
+                .map(ProductDTO::new);
+    }
+
     @Transactional(readOnly = true)
-    public Page<ProductDTO> findAll(Pageable pageable) {
-        return productRepository.findAll(pageable).map(ProductDTO::new);
+    public CursorPageDTO<ProductDTO> findAll(String after, Pageable pageable) {
+        return scroll(ProductSpecifications.all(), cursorOf(after, pageable), pageable, ProductDTO::new);
     }
 
     @Transactional(readOnly = true)
     public ProductDTO findById(Long id) {
-        Product entity = productRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("[!] -> Product not found!"));
-        return new ProductDTO(entity);
+        return productCache.get(id, key -> productRepository.findById(key)
+                .map(ProductDTO::new)
+                .orElseThrow(() -> new ResourceNotFoundException("[!] -> Product not found!")));
     }
 
     @Transactional
@@ -43,8 +99,10 @@ public class ProductService {
         Store store = authService._getAuthenticatedStore();
 
         entity.setStore(store);
+        storeRepository.addProductCount(store.getId(), 1);
 
         entity = productRepository.save(entity);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(entity));
         return new ProductDTO(entity);
     }
 
@@ -54,6 +112,7 @@ public class ProductService {
                 .orElseThrow(() -> new ResourceNotFoundException("[!] -> Product not found!"));
         copyDTOToEntity(dto, entity);
         entity = productRepository.save(entity);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(entity));
         return new ProductDTO(entity);
     }
 
@@ -68,6 +127,10 @@ public class ProductService {
         }
 
         productRepository.delete(product);
+        if (store != null) {
+            storeRepository.addProductCount(store.getId(), -1);
+        }
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
     }
 
 
@@ -85,34 +148,213 @@ public class ProductService {
 
     }
 
-    @Transactional
-    public Page<ProductListDTO> findAllProductsByCategory(
+    @Transactional(readOnly = true)
+    public Slice<ProductListDTO> findAllProductsByCategory(
+            Long categoryId,
+            String name,
+            Pageable pageable,
+            CountMode countMode) {
+
+        if (name == null || !searchIndex.isReady() || !searchIndex.canSort(pageable.getSort())) {
+            String folded = TextNormalizer.fold(name);
+            Slice<Product> slice = productRepository.findAllByCategoryAndName(categoryId, folded, pageable);
+            String key = name == null ? "category:" + categoryId : null;
+            return withTotal(slice, countMode, key, () -> productRepository.countByCategoryAndName(categoryId, folded), null)
+                    .map(ProductListDTO::new);
+        }
+
+        List<Long> ids = searchIndex.searchByProductName(name, categoryId);
+        return withoutTotalIfRequested(hydrate(ids, pageable), countMode).map(ProductListDTO::new);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ProductListDTO> search(String name, Pageable pageable, CountMode countMode) {
+        return search(name, pageable, countMode, searchesFullText(pageable.getSort()));
+    }
+
+    /**
+     * Whether a search in {@code sort} order runs on the full-text index, which
+     * also matches descriptions, or on name substrings. Callers that count the
+     * matches elsewhere, like the search facets, pass the same choice to both.
+     */
+    public boolean searchesFullText(Sort sort) {
+        return textIndex.isReady() && textIndex.canSort(sort);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ProductListDTO> search(String name, Pageable pageable, CountMode countMode, boolean fullText) {
+        Page<Product> page;
+        if (fullText) {
+            ProductTextIndex.Hits hits = textIndex.search(name, pageable);
+            page = new PageImpl<>(findAllInOrder(hits.ids()), pageable, hits.total());
+        } else if (searchIndex.isReady() && searchIndex.canSort(pageable.getSort())) {
+            page = hydrate(searchIndex.searchByProductOrCategoryName(name), pageable);
+        } else {
+            page = productRepository.searchByName(TextNormalizer.fold(name), pageable);
+        }
+        return withoutTotalIfRequested(page, countMode).map(ProductListDTO::new);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProductListDTO> findAllProductsByCategory(
             Long categoryId,
             String name,
+            String after,
             Pageable pageable) {
 
-        Page<Product> page = productRepository
-                .findAllByCategoryAndName(categoryId, name, pageable);
+        ProductCursor cursor = cursorOf(after, pageable);
+        if (name != null && searchIndex.isReady()) {
+            List<Long> ids = searchIndex.searchByProductName(name, categoryId);
+            return scroll(ids, cursor, pageable, ProductListDTO::new);
+        }
+
+        Specification<Product> filter;
+        if (name != null) {
+            filter = ProductSpecifications.nameContains(TextNormalizer.fold(name));
+            if (categoryId != null) {
+                filter = filter.and(ProductSpecifications.inCategory(categoryId));
+            }
+        } else if (categoryId != null) {
+            filter = ProductSpecifications.inCategory(categoryId);
+        } else {
+            filter = ProductSpecifications.all();
+        }
+        return scroll(filter, cursor, pageable, ProductListDTO::new);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProductListDTO> search(String name, String after, Pageable pageable) {
+        ProductCursor cursor = cursorOf(after, pageable);
+        if (searchIndex.isReady()) {
+            return scroll(searchIndex.searchByProductOrCategoryName(name), cursor, pageable, ProductListDTO::new);
+        }
+        Specification<Product> filter = ProductSpecifications.nameOrCategoryNameContains(TextNormalizer.fold(name));
+        return scroll(filter, cursor, pageable, ProductListDTO::new);
+    }
+
+    private ProductCursor cursorOf(String after, Pageable pageable) {
+        return after == null || after.isBlank()
+                ? ProductCursor.first(pageable.getSort())
+                : ProductCursor.decode(after);
+    }
+
+    /**
+     * One page after the cursor: fetches a row more than the page size to
+     * learn whether another page follows, reading the cursor's segments in
+     * turn until it has them.
+     */
+    private <T> CursorPageDTO<T> scroll(
+            Specification<Product> filter,
+            ProductCursor cursor,
+            Pageable pageable,
+            Function<Product, T> mapper) {
+
+        int size = pageable.getPageSize();
+        List<Product> rows = new ArrayList<>();
+        for (Specification<Product> segment : cursor.apply(filter)) {
+            int missing = size + 1 - rows.size();
+            if (missing == 0) {
+                break;
+            }
+            rows.addAll(productRepository.findBy(segment, query -> query.limit(missing).all()));
+        }
+        boolean hasNext = rows.size() > size;
+        List<Product> content = hasNext ? rows.subList(0, size) : rows;
+        String next = hasNext ? cursor.next(content.getLast()) : null;
+        return new CursorPageDTO<>(content.stream().map(mapper).toList(), size, next, hasNext);
+    }
+
+    /**
+     * The same page, cut from ids matched by the search index: the seek and
+     * the order are applied to the ids in memory and only the page's rows are
+     * loaded.
+     */
+    private <T> CursorPageDTO<T> scroll(
+            List<Long> ids,
+            ProductCursor cursor,
+            Pageable pageable,
+            Function<Product, T> mapper) {
+
+        int size = pageable.getPageSize();
+        List<Long> pageIds = searchIndex.seek(ids, cursor, size + 1);
+        boolean hasNext = pageIds.size() > size;
+        List<Product> content = findAllInOrder(hasNext ? pageIds.subList(0, size) : pageIds);
+        String next = hasNext && !content.isEmpty() ? cursor.next(content.getLast()) : null;
+        return new CursorPageDTO<>(content.stream().map(mapper).toList(), size, next, next != null);
+    }
+
+    private Slice<Product> withTotal(
+            Slice<Product> slice,
+            CountMode countMode,
+            String key,
+            LongSupplier exact,
+            Supplier<OptionalLong> estimate) {
+
+        if (countMode == CountMode.NONE) {
+            return slice;
+        }
+        if (!slice.hasNext()) {
+            long total = slice.getPageable().isPaged()
+                    ? slice.getPageable().getOffset() + slice.getNumberOfElements()
+                    : slice.getNumberOfElements();
+            return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+        }
+
+        long total = countCache.count(key, countMode, exact, estimate);
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
 
-        return page.map(ProductListDTO::new);
+    private Slice<Product> withoutTotalIfRequested(Page<Product> page, CountMode countMode) {
+        if (countMode != CountMode.NONE) {
+            return page;
+        }
+        return new SliceImpl<>(page.getContent(), page.getPageable(), page.hasNext());
     }
 
-    public Page<ProductListDTO> search(String name, Pageable pageable) {
-        System.out.println("Searching products with name: " + name);
-        Page<Product> page = productRepository.searchByName(name, pageable);
+    /**
+     * Orders and pages the matching ids in the search index, so only the
+     * products on the requested page are loaded. Callers check that the index
+     * can sort by the requested order.
+     */
+    private Page<Product> hydrate(List<Long> ids, Pageable pageable) {
+        if (ids.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        List<Long> ordered = searchIndex.sort(ids, pageable.getSort());
+        List<Long> pageIds = ordered;
+        if (pageable.isPaged()) {
+            int from = (int) Math.min(pageable.getOffset(), ordered.size());
+            int to = Math.min(from + pageable.getPageSize(), ordered.size());
+            pageIds = ordered.subList(from, to);
+        }
 
-        return page.map(ProductListDTO::new);
+        return new PageImpl<>(findAllInOrder(pageIds), pageable, ids.size());
+    }
+
+    private List<Product> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> byId = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Transactional(readOnly = true)
-    public Page<ProductDTO> getProductsByStoreId(
+    public Slice<ProductDTO> getProductsByStoreId(
             Long storeId,
-            Pageable pageable) {
+            Pageable pageable,
+            CountMode countMode) {
 
-        Page<Product> page = productRepository
+        Slice<Product> slice = productRepository
                 .findByStoreId(storeId, pageable);
 
-        return page.map(ProductDTO::new);
+        return withTotal(slice, countMode, "store:" + storeId, () -> productRepository.countByStoreId(storeId), null)
+                .map(ProductDTO::new);
     }
 
 }
@@ -1,37 +1,69 @@
 package br.edu.ifmg.produto.services;
 
+import br.edu.ifmg.produto.dtos.ProductDTO;
+import br.edu.ifmg.produto.dtos.ProductListDTO;
 import br.edu.ifmg.produto.dtos.StoreDTO;
+import br.edu.ifmg.produto.dtos.StoreSummaryDTO;
 import br.edu.ifmg.produto.entities.Store;
 import br.edu.ifmg.produto.repository.StoreRepository;
 
+import br.edu.ifmg.produto.services.exceptions.ResourceNotFoundException;
+import br.edu.ifmg.produto.services.pagination.CountMode;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class StoreService {
 
+    private static final int TOP_STORES = 10;
+    private static final int PREVIEW_PRODUCTS_PER_STORE = 4;
+
     @Autowired
     private StoreRepository storeRepository;
 
+    @Autowired
+    private ProductService productService;
+
     public List<StoreDTO> findAll() {
         List<Store> stores = storeRepository.findAll();
         return stores.stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
-    public List<StoreDTO> getTopStores() {
-        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "rating"));
-        return storeRepository.findAll(pageRequest).getContent()
+    public List<StoreSummaryDTO> getTopStores() {
+        List<StoreSummaryDTO> stores = storeRepository.findTopSummaries(Limit.of(TOP_STORES))
                 .stream()
-                .map(StoreDTO::new)
+                .map(StoreSummaryDTO::new)
                 .toList();
+
+        if (stores.isEmpty()) {
+            return stores;
+        }
+
+        Map<Long, StoreSummaryDTO> byId = stores.stream()
+                .collect(Collectors.toMap(StoreSummaryDTO::getId, Function.identity()));
+        storeRepository.findPreviewProducts(byId.keySet(), PREVIEW_PRODUCTS_PER_STORE)
+                .forEach(p -> byId.get(p.getStoreId()).getPreviewProducts().add(new ProductListDTO(p)));
+
+        return stores;
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ProductDTO> getStoreProducts(Long storeId, Pageable pageable, CountMode countMode) {
+        if (!storeRepository.existsById(storeId)) {
+            throw new ResourceNotFoundException("[!] -> Store not found!");
+        }
+        return productService.getProductsByStoreId(storeId, pageable, countMode);
     }
 
 
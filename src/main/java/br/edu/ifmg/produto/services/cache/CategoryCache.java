@@ -0,0 +1,121 @@
+package br.edu.ifmg.produto.services.cache;
+
+import br.edu.ifmg.produto.dtos.CategoryDTO;
+import br.edu.ifmg.produto.services.events.CategoryChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of the category list and of categories by id. Entries are
+ * evicted once a category write commits, and reads made inside a write
+ * transaction bypass the cache so uncommitted data is never stored. Callers
+ * always get copies, since the resources add HATEOAS links to the DTOs. Hits
+ * and misses are published as the {@code cache.gets} meters of the caches
+ * {@code category.list} and {@code category.by-id}.
+ * <p>
+ * Every eviction bumps a generation. A load that finishes after a bump may
+ * have read the data from before the commit, so its entry is dropped again;
+ * entries also expire after {@code cache.category.expire-after-write}. Loads
+ * read from the primary, see {@link PrimaryReads}.
+ */
+@Component
+public class CategoryCache {
+
+    private static final String ALL = "all";
+
+    private final Cache<String, List<CategoryDTO>> list;
+    private final Cache<Long, CategoryDTO> byId;
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    private PrimaryReads primaryReads;
+
+    public CategoryCache(
+            @Value("${cache.category.maximum-size:1000}") long maximumSize,
+            @Value("${cache.category.expire-after-write:10m}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+
+        this.list = Caffeine.newBuilder().maximumSize(1).expireAfterWrite(expireAfterWrite).recordStats().build();
+        this.byId = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, list, "category.list");
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "category.by-id");
+    }
+
+    public List<CategoryDTO> getAll(Supplier<List<CategoryDTO>> loader) {
+        if (insideWriteTransaction()) {
+            return loader.get();
+        }
+        return get(list, ALL, key -> List.copyOf(loader.get()))
+                .stream()
+                .map(CategoryCache::copy)
+                .toList();
+    }
+
+    public CategoryDTO getById(Long id, Function<Long, CategoryDTO> loader) {
+        if (insideWriteTransaction()) {
+            return loader.apply(id);
+        }
+        return copy(get(byId, id, loader));
+    }
+
+    public CacheStats getListStats() {
+        return list.stats();
+    }
+
+    public CacheStats getByIdStats() {
+        return byId.stats();
+    }
+
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        generation.incrementAndGet();
+        list.invalidateAll();
+        byId.invalidate(event.getCategoryId());
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        list.invalidateAll();
+        byId.invalidateAll();
+    }
+
+    /**
+     * Caffeine's get, except that a value this call loaded is removed again
+     * when an eviction happened while it was loading.
+     */
+    private <K, V> V get(Cache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        long[] loadedAt = {-1};
+        V value = cache.get(key, k -> {
+            loadedAt[0] = generation.get();
+            return primaryReads.get(() -> loader.apply(k));
+        });
+        if (loadedAt[0] >= 0 && loadedAt[0] != generation.get()) {
+            cache.asMap().remove(key, value);
+        }
+        return value;
+    }
+
+    private static boolean insideWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static CategoryDTO copy(CategoryDTO dto) {
+        return new CategoryDTO(dto.getId(), dto.getName(), dto.getImageUrl(), dto.getVersion());
+    }
+
+}
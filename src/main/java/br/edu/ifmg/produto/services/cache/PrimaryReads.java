@@ -0,0 +1,36 @@
+package br.edu.ifmg.produto.services.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs cache fills against the primary. A fill usually follows an eviction,
+ * i.e. a commit the replica may not have applied yet, so reading it from the
+ * replica would cache the data from before the commit. Outside a write
+ * transaction the load gets its own read-write transaction, which routes it
+ * to the primary pool; inside one it already runs there.
+ */
+@Component
+public class PrimaryReads {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T get(Supplier<T> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loader.get();
+        }
+        return transactionTemplate.execute(status -> loader.get());
+    }
+
+}
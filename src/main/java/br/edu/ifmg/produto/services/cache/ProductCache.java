@@ -0,0 +1,103 @@
+package br.edu.ifmg.produto.services.cache;
+
+import br.edu.ifmg.produto.dtos.CategoryDTO;
+import br.edu.ifmg.produto.dtos.ProductDTO;
+import br.edu.ifmg.produto.services.events.CategoryChangedEvent;
+import br.edu.ifmg.produto.services.events.ProductChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Size-bounded, optionally expiring cache of product details by id. Concurrent
+ * misses on the same id share a single load, and entries are evicted once a
+ * product write commits. Cached products carry their category names, so a
+ * committed category write evicts every entry, and a load running across
+ * such an eviction is not kept. Loads read from the primary, see
+ * {@link PrimaryReads}. Hits and misses are published as the
+ * {@code cache.gets} meters of the cache {@code product}.
+ */
+@Component
+public class ProductCache {
+
+    private final Cache<Long, ProductDTO> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    private PrimaryReads primaryReads;
+
+    public ProductCache(
+            @Value("${cache.product.maximum-size:10000}") long maximumSize,
+            @Value("${cache.product.expire-after-write:0s}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maximumSize).recordStats();
+        if (!expireAfterWrite.isZero()) {
+            builder.expireAfterWrite(expireAfterWrite);
+        }
+        this.cache = builder.build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product");
+    }
+
+    public ProductDTO get(Long id, Function<Long, ProductDTO> loader) {
+        if (insideWriteTransaction()) {
+            return copy(loader.apply(id));
+        }
+        long[] loadedAt = {-1};
+        ProductDTO dto = cache.get(id, key -> {
+            loadedAt[0] = generation.get();
+            return primaryReads.get(() -> loader.apply(key));
+        });
+        if (loadedAt[0] >= 0 && loadedAt[0] != generation.get()) {
+            cache.asMap().remove(id, dto);
+        }
+        return copy(dto);
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        cache.invalidate(event.getProductId());
+    }
+
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        invalidateAll();
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private static boolean insideWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static ProductDTO copy(ProductDTO dto) {
+        Set<CategoryDTO> categories = dto.getCategories().stream()
+                .map(c -> new CategoryDTO(c.getId(), c.getName(), c.getImageUrl(), c.getVersion()))
+                .collect(Collectors.toCollection(HashSet::new));
+        return new ProductDTO(dto.getId(), dto.getName(), dto.getDescription(), dto.getPrice(), dto.getImageUrl(),
+                categories, dto.getVersion());
+    }
+
+}
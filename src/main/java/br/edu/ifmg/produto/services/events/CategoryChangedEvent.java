@@ -0,0 +1,25 @@
+package br.edu.ifmg.produto.services.events;
+
+import br.edu.ifmg.produto.entities.Category;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CategoryChangedEvent {
+
+    public enum Type { SAVED, DELETED }
+
+    private Type type;
+    private Long categoryId;
+    private String name;
+
+    public static CategoryChangedEvent saved(Category entity) {
+        return new CategoryChangedEvent(Type.SAVED, entity.getId(), entity.getName());
+    }
+
+    public static CategoryChangedEvent deleted(Long categoryId) {
+        return new CategoryChangedEvent(Type.DELETED, categoryId, null);
+    }
+
+}
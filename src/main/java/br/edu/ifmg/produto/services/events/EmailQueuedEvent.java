@@ -0,0 +1,12 @@
+package br.edu.ifmg.produto.services.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EmailQueuedEvent {
+
+    private Long emailId;
+
+}
@@ -0,0 +1,44 @@
+package br.edu.ifmg.produto.services.events;
+
+import br.edu.ifmg.produto.entities.Category;
+import br.edu.ifmg.produto.entities.Product;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+
+    public enum Type { SAVED, DELETED }
+
+    private Type type;
+    private Long productId;
+    private String name;
+    private String description;
+    private BigDecimal price;
+    private Instant createdAt;
+    private Set<Long> categoryIds;
+
+    public static ProductChangedEvent saved(Product entity) {
+        Set<Long> categoryIds = entity.getCategories().stream()
+                .map(Category::getId)
+                .collect(Collectors.toSet());
+        return saved(entity.getId(), entity.getName(), entity.getDescription(), entity.getPrice(),
+                entity.getCreatedAt(), categoryIds);
+    }
+
+    public static ProductChangedEvent saved(
+            Long productId, String name, String description, BigDecimal price, Instant createdAt, Set<Long> categoryIds) {
+        return new ProductChangedEvent(Type.SAVED, productId, name, description, price, createdAt, categoryIds);
+    }
+
+    public static ProductChangedEvent deleted(Long productId) {
+        return new ProductChangedEvent(Type.DELETED, productId, null, null, null, null, Set.of());
+    }
+
+}
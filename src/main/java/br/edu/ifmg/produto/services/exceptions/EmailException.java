@@ -1,8 +0,0 @@
-package br.edu.ifmg.produto.services.exceptions;
-
-public class EmailException extends RuntimeException {
-
-    public EmailException(String message) {
-        super(message);
-    }
-}
@@ -0,0 +1,74 @@
+package br.edu.ifmg.produto.services.exports;
+
+import br.edu.ifmg.produto.entities.Product;
+import br.edu.ifmg.produto.repository.ProductRepository;
+import br.edu.ifmg.produto.services.imports.ProductFileFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streams a store's whole catalog to an output stream. Products come from a
+ * forward-only cursor and are written in chunks: touching the categories of
+ * the first product of a chunk batch-loads them for the whole chunk, and the
+ * chunk is detached once written, so the persistence context (and the heap)
+ * never holds more than one chunk regardless of the catalog size.
+ */
+@Service
+public class ProductExportService {
+
+    // matches hibernate.default_batch_fetch_size, so each chunk loads its categories in one query
+    private static final int CHUNK_SIZE = 100;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public long exportStoreProducts(Long storeId, ProductFileFormat format, OutputStream out) throws IOException {
+        ProductExportWriter writer = new ProductExportWriter(format, out, objectMapper);
+        List<Product> chunk = new ArrayList<>(CHUNK_SIZE);
+        long exported = 0;
+
+        try (Stream<Product> products = productRepository.streamByStoreId(storeId)) {
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    exported += writeChunk(chunk, writer);
+                }
+            }
+            exported += writeChunk(chunk, writer);
+        }
+        writer.flush();
+        return exported;
+    }
+
+    private int writeChunk(List<Product> chunk, ProductExportWriter writer) throws IOException {
+        for (Product product : chunk) {
+            writer.write(product);
+        }
+        writer.flush();
+        chunk.forEach(entityManager::detach);
+
+        int written = chunk.size();
+        chunk.clear();
+        return written;
+    }
+
+}
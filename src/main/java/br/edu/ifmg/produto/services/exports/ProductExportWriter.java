@@ -0,0 +1,112 @@
+package br.edu.ifmg.produto.services.exports;
+
+import br.edu.ifmg.produto.entities.Category;
+import br.edu.ifmg.produto.entities.Product;
+import br.edu.ifmg.produto.services.imports.ProductFileFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Writes products one at a time in the same CSV / NDJSON layout the product
+ * import reads, with categories by name, so an export can be imported back.
+ */
+public class ProductExportWriter {
+
+    private static final String CSV_HEADER = "id,name,description,price,imageUrl,categories";
+
+    private final ProductFileFormat format;
+    private final Writer writer;
+    private final JsonGenerator json;
+
+    public ProductExportWriter(ProductFileFormat format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ProductFileFormat.NDJSON) {
+            this.json = objectMapper.getFactory().createGenerator(writer);
+            this.json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.json.setRootValueSeparator(null);
+        } else {
+            this.json = null;
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    public void write(Product product) throws IOException {
+        List<String> categories = product.getCategories().stream()
+                .sorted(Comparator.comparing(Category::getId))
+                .map(Category::getName)
+                .toList();
+        if (format == ProductFileFormat.NDJSON) {
+            writeJson(product, categories);
+        } else {
+            writeCsv(product, categories);
+        }
+    }
+
+    public void flush() throws IOException {
+        if (json != null) {
+            json.flush();
+        }
+        writer.flush();
+    }
+
+    private void writeJson(Product product, List<String> categories) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("id", product.getId());
+        json.writeStringField("name", product.getName());
+        json.writeStringField("description", product.getDescription());
+        if (product.getPrice() != null) {
+            json.writeNumberField("price", product.getPrice());
+        } else {
+            json.writeNullField("price");
+        }
+        json.writeStringField("imageUrl", product.getImageUrl());
+        json.writeArrayFieldStart("categories");
+        for (String category : categories) {
+            json.writeString(category);
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private void writeCsv(Product product, List<String> categories) throws IOException {
+        writer.write(String.valueOf(product.getId()));
+        writer.write(',');
+        writeCsvField(product.getName());
+        writer.write(',');
+        writeCsvField(product.getDescription());
+        writer.write(',');
+        writer.write(product.getPrice() == null ? "" : product.getPrice().toPlainString());
+        writer.write(',');
+        writeCsvField(product.getImageUrl());
+        writer.write(',');
+        writeCsvField(String.join("|", categories));
+        writer.write('\n');
+    }
+
+    private void writeCsvField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        // RFC 4180: line breaks stay inside the quotes, and the import reads them back
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+}
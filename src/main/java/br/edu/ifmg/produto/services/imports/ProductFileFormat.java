@@ -0,0 +1,68 @@
+package br.edu.ifmg.produto.services.imports;
+
+import br.edu.ifmg.produto.services.exceptions.BusinessValidationException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+
+/**
+ * File formats accepted by the product import and produced by the catalog export.
+ */
+public enum ProductFileFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    public static final String NDJSON_VALUE = MediaType.APPLICATION_NDJSON_VALUE;
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ProductFileFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ProductFileFormat fromContentType(String contentType) {
+        MediaType type = contentType == null ? null : MediaType.parseMediaType(contentType);
+        for (ProductFileFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(type)) {
+                return format;
+            }
+        }
+        throw new BusinessValidationException("Unsupported content type: " + contentType);
+    }
+
+    /**
+     * First format the Accept header asks for, or CSV when it accepts anything.
+     */
+    public static ProductFileFormat fromAccept(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return CSV;
+        }
+        List<MediaType> types = MediaType.parseMediaTypes(accept);
+        MimeTypeUtils.sortBySpecificity(types);
+        for (MediaType type : types) {
+            if (type.isWildcardType()) {
+                return CSV;
+            }
+            for (ProductFileFormat format : values()) {
+                if (format.mediaType.isCompatibleWith(type)) {
+                    return format;
+                }
+            }
+        }
+        throw new BusinessValidationException("Unsupported content type: " + accept);
+    }
+
+}
@@ -0,0 +1,252 @@
+package br.edu.ifmg.produto.services.imports;
+
+import br.edu.ifmg.produto.services.exceptions.BusinessValidationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads an import stream one record at a time, so memory use does not depend
+ * on the file size. Records longer than the maximum record length are skipped
+ * and reported instead of being buffered.
+ * <p>
+ * NDJSON lines are objects with {@code name}, {@code description}, {@code price},
+ * {@code imageUrl} and a {@code categories} array of ids or names. CSV files
+ * start with a header naming those columns; fields may be double-quoted, and
+ * quoted fields may span lines as in RFC 4180. Categories are separated by
+ * {@code |}.
+ */
+public class ProductImportReader {
+
+    private static final String CATEGORY_SEPARATOR = "|";
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("name", "price", "categories");
+
+    private final BufferedReader reader;
+    private final ProductFileFormat format;
+    private final ObjectMapper objectMapper;
+    private final int maxRecordLength;
+
+    private long line;
+    private long lines;
+    private boolean tooLong;
+    private Map<String, Integer> csvColumns;
+
+    public ProductImportReader(InputStream in, ProductFileFormat format, ObjectMapper objectMapper, int maxRecordLength) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * Next data row, or {@code null} at the end of the stream. Blank lines are
+     * skipped; rows are numbered by the line they start on.
+     */
+    public ProductImportRow next() throws IOException {
+        String text;
+        while ((text = readRecord()) != null) {
+            if (tooLong) {
+                if (format == ProductFileFormat.CSV && csvColumns == null) {
+                    throw new BusinessValidationException("CSV header is longer than " + maxRecordLength + " characters");
+                }
+                return ProductImportRow.invalid(line, "Record is longer than " + maxRecordLength + " characters");
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            if (format == ProductFileFormat.NDJSON) {
+                return parseJson(text);
+            }
+            if (csvColumns == null) {
+                csvColumns = parseHeader(text);
+                continue;
+            }
+            return parseCsv(text);
+        }
+        return null;
+    }
+
+    /**
+     * Next record without its terminator, or {@code null} at the end of the
+     * stream. A CSV record goes on past line breaks inside quotes, which are
+     * kept as {@code \n}. Past {@code maxRecordLength} characters the rest of
+     * the record is read and dropped, and {@link #tooLong} is set.
+     */
+    private String readRecord() throws IOException {
+        StringBuilder text = new StringBuilder();
+        boolean quoted = false;
+        tooLong = false;
+        line = lines + 1;
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                c = '\n';
+            }
+            if (c == '\n') {
+                lines++;
+                if (!quoted) {
+                    return text.toString();
+                }
+            } else if (c == '"' && format == ProductFileFormat.CSV) {
+                quoted = !quoted;
+            }
+            if (text.length() < maxRecordLength) {
+                text.append((char) c);
+            } else {
+                tooLong = true;
+            }
+        }
+        return text.isEmpty() && !tooLong ? null : text.toString();
+    }
+
+    private ProductImportRow parseJson(String text) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            return ProductImportRow.invalid(line, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return ProductImportRow.invalid(line, "Expected a JSON object");
+        }
+
+        List<String> categories = new ArrayList<>();
+        JsonNode categoriesNode = node.path("categories");
+        if (categoriesNode.isArray()) {
+            categoriesNode.forEach(c -> categories.add(c.asText()));
+        } else if (!categoriesNode.isMissingNode() && !categoriesNode.isNull()) {
+            categories.add(categoriesNode.asText());
+        }
+
+        JsonNode priceNode = node.path("price");
+        BigDecimal price;
+        if (priceNode.isNumber()) {
+            price = priceNode.decimalValue();
+        } else {
+            try {
+                price = parsePrice(textOf(priceNode));
+            } catch (NumberFormatException e) {
+                return ProductImportRow.invalid(line, "Invalid price: " + priceNode.asText());
+            }
+        }
+
+        return new ProductImportRow(line, textOf(node.path("name")), textOf(node.path("description")),
+                price, textOf(node.path("imageUrl")), categories, null);
+    }
+
+    private Map<String, Integer> parseHeader(String text) {
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = splitCsv(text);
+        for (int i = 0; names != null && i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.keySet().containsAll(REQUIRED_CSV_COLUMNS)) {
+            throw new BusinessValidationException("CSV header must contain the columns " + REQUIRED_CSV_COLUMNS);
+        }
+        return columns;
+    }
+
+    private ProductImportRow parseCsv(String text) {
+        List<String> fields = splitCsv(text);
+        if (fields == null) {
+            return ProductImportRow.invalid(line, "Unterminated quoted field");
+        }
+
+        String priceText = csvField(fields, "price");
+        BigDecimal price;
+        try {
+            price = parsePrice(priceText);
+        } catch (NumberFormatException e) {
+            return ProductImportRow.invalid(line, "Invalid price: " + priceText);
+        }
+
+        List<String> categories = new ArrayList<>();
+        String categoriesText = csvField(fields, "categories");
+        if (categoriesText != null) {
+            int start = 0;
+            while (start <= categoriesText.length()) {
+                int end = categoriesText.indexOf(CATEGORY_SEPARATOR, start);
+                if (end < 0) {
+                    end = categoriesText.length();
+                }
+                String category = categoriesText.substring(start, end).trim();
+                if (!category.isEmpty()) {
+                    categories.add(category);
+                }
+                start = end + 1;
+            }
+        }
+
+        return new ProductImportRow(line, csvField(fields, "name"), csvField(fields, "description"),
+                price, csvField(fields, "imageurl"), categories, null);
+    }
+
+    private String csvField(List<String> fields, String column) {
+        Integer index = csvColumns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Splits one CSV record, honouring double quotes and {@code ""} escapes.
+     * Returns {@code null} when a quoted field is still open at the end of the stream.
+     */
+    private static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static BigDecimal parsePrice(String text) {
+        return text == null || text.isBlank() ? null : new BigDecimal(text.trim());
+    }
+
+    private static String textOf(JsonNode node) {
+        return node.isMissingNode() || node.isNull() ? null : node.asText();
+    }
+
+}
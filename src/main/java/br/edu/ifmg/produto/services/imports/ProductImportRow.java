@@ -0,0 +1,27 @@
+package br.edu.ifmg.produto.services.imports;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * One data line of an import file. Lines that could not be parsed carry the
+ * reason in {@code error} and no product data.
+ */
+public record ProductImportRow(
+        long line,
+        String name,
+        String description,
+        BigDecimal price,
+        String imageUrl,
+        List<String> categories,
+        String error) {
+
+    public static ProductImportRow invalid(long line, String error) {
+        return new ProductImportRow(line, null, null, null, null, List.of(), error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+
+}
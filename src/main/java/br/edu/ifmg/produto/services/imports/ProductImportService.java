@@ -0,0 +1,273 @@
+package br.edu.ifmg.produto.services.imports;
+
+import br.edu.ifmg.produto.dtos.CategoryDTO;
+import br.edu.ifmg.produto.dtos.ProductDTO;
+import br.edu.ifmg.produto.dtos.ProductImportErrorDTO;
+import br.edu.ifmg.produto.dtos.ProductImportReportDTO;
+import br.edu.ifmg.produto.entities.Category;
+import br.edu.ifmg.produto.entities.Product;
+import br.edu.ifmg.produto.repository.CategoryRepository;
+import br.edu.ifmg.produto.services.AuthService;
+import br.edu.ifmg.produto.services.events.ProductChangedEvent;
+import br.edu.ifmg.produto.util.TextNormalizer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports a seller's catalog from an NDJSON or CSV stream. Lines are read,
+ * validated and buffered one batch at a time; each batch is written with JDBC
+ * batch inserts in its own transaction, so memory stays constant and a bad
+ * line only rejects itself. The store is resolved once per import and
+ * categories come from a lookup table loaded once per import.
+ */
+@Service
+public class ProductImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String INSERT_PRODUCT =
+            "INSERT INTO tb_product (id, name, name_normalized, description, price, image_url, created_at, store_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PRODUCT_CATEGORY =
+            "INSERT INTO tb_product_category (product_id, category_id) VALUES (?, ?)";
+    private static final String ADD_PRODUCT_COUNT =
+            "UPDATE tb_store SET product_count = product_count + ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${product-import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${product-import.max-record-length:65536}")
+    private int maxRecordLength;
+
+    private record ValidRow(long line, ProductDTO product, Set<Long> categoryIds) {}
+
+    public ProductImportReportDTO importProducts(InputStream in, ProductFileFormat format) throws IOException {
+        Long storeId = authService._getAuthenticatedStore().getId();
+        Map<String, Long> categories = categoryLookup();
+
+        ProductImportReportDTO report = new ProductImportReportDTO();
+        ProductImportReader reader = new ProductImportReader(in, format, objectMapper, maxRecordLength);
+        List<ValidRow> batch = new ArrayList<>(batchSize);
+
+        ProductImportRow row;
+        while ((row = reader.next()) != null) {
+            report.setRows(report.getRows() + 1);
+            String error = row.isValid() ? checkRequiredFields(row, categories) : row.error();
+            ValidRow valid = error == null ? toValidRow(row, categories) : null;
+            if (valid != null) {
+                error = checkConstraints(valid.product());
+            }
+            if (error != null) {
+                reject(report, row.line(), error);
+                continue;
+            }
+            batch.add(valid);
+            if (batch.size() == batchSize) {
+                flush(batch, storeId, report);
+            }
+        }
+        flush(batch, storeId, report);
+        return report;
+    }
+
+    /**
+     * Category ids keyed by their id and by their folded name.
+     */
+    private Map<String, Long> categoryLookup() {
+        List<Category> all = categoryRepository.findAll();
+        Map<String, Long> lookup = new HashMap<>();
+        for (Category category : all) {
+            if (category.getName() != null) {
+                lookup.putIfAbsent(normalize(category.getName()), category.getId());
+            }
+        }
+        // ids win over a category that happens to be named like another one's id
+        for (Category category : all) {
+            lookup.put(category.getId().toString(), category.getId());
+        }
+        return lookup;
+    }
+
+    private String checkRequiredFields(ProductImportRow row, Map<String, Long> categories) {
+        if (row.name() == null || row.name().isBlank()) {
+            return "name: must not be empty";
+        }
+        if (row.price() == null) {
+            return "price: must not be empty";
+        }
+        for (String category : row.categories()) {
+            if (!categories.containsKey(normalize(category))) {
+                return "Unknown category: " + category;
+            }
+        }
+        return null;
+    }
+
+    private String checkConstraints(ProductDTO product) {
+        Set<ConstraintViolation<ProductDTO>> violations = validator.validate(product);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private ValidRow toValidRow(ProductImportRow row, Map<String, Long> categories) {
+        Set<Long> categoryIds = row.categories().stream()
+                .map(c -> categories.get(normalize(c)))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        ProductDTO dto = new ProductDTO();
+        dto.setName(row.name());
+        dto.setDescription(row.description());
+        dto.setPrice(row.price());
+        dto.setImageUrl(row.imageUrl());
+        categoryIds.forEach(id -> dto.getCategories().add(new CategoryDTO(id, null, null, null)));
+        return new ValidRow(row.line(), dto, categoryIds);
+    }
+
+    private void flush(List<ValidRow> batch, Long storeId, ProductImportReportDTO report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch, storeId));
+            report.setImported(report.getImported() + batch.size());
+        } catch (DataAccessException e) {
+            // one bad row fails the whole JDBC batch: insert the rows one at a time to tell which
+            for (ValidRow row : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(row), storeId));
+                    report.setImported(report.getImported() + 1);
+                } catch (DataAccessException rowError) {
+                    reject(report, row.line(), "Insert failed: " + rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        batch.clear();
+    }
+
+    private void insert(List<ValidRow> batch, Long storeId) {
+        long[] ids = nextProductIds(batch.size());
+        Instant now = Instant.now();
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ProductDTO product = batch.get(i).product();
+                ps.setLong(1, ids[i]);
+                ps.setString(2, product.getName());
+                ps.setString(3, TextNormalizer.fold(product.getName()));
+                ps.setString(4, product.getDescription());
+                ps.setBigDecimal(5, product.getPrice());
+                ps.setString(6, product.getImageUrl());
+                ps.setTimestamp(7, Timestamp.from(now));
+                ps.setLong(8, storeId);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        });
+
+        List<long[]> links = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            ValidRow row = batch.get(i);
+            long productId = ids[i];
+            row.categoryIds().forEach(categoryId -> links.add(new long[] {productId, categoryId}));
+            ProductDTO product = row.product();
+            eventPublisher.publishEvent(ProductChangedEvent.saved(
+                    productId, product.getName(), product.getDescription(), product.getPrice(), now, row.categoryIds()));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT_CATEGORY, links, links.size(), (ps, link) -> {
+            ps.setLong(1, link[0]);
+            ps.setLong(2, link[1]);
+        });
+        jdbcTemplate.update(ADD_PRODUCT_COUNT, batch.size(), storeId);
+    }
+
+    /**
+     * Takes ids from the same pooled sequence generator Hibernate uses for
+     * {@link Product}, so a batch costs one sequence call per allocation block.
+     */
+    private long[] nextProductIds(int count) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(Product.class)
+                .getGenerator();
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = ((Number) generator.generate(session, null, null, EventType.INSERT)).longValue();
+        }
+        return ids;
+    }
+
+    private static void reject(ProductImportReportDTO report, long line, String message) {
+        report.setRejected(report.getRejected() + 1);
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add(new ProductImportErrorDTO(line, message));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+
+    private static String normalize(String value) {
+        return TextNormalizer.fold(value);
+    }
+
+}
@@ -0,0 +1,29 @@
+package br.edu.ifmg.produto.services.pagination;
+
+import br.edu.ifmg.produto.services.exceptions.BusinessValidationException;
+
+import java.util.Locale;
+
+public enum CountMode {
+
+    /** Exact total, served from the count cache while no product write happened since it was computed. */
+    EXACT,
+
+    /** Last known total even if a write invalidated it, or the table row estimate; never blocks on a COUNT. */
+    APPROXIMATE,
+
+    /** No total at all: a Slice for infinite-scroll clients. */
+    NONE;
+
+    public static CountMode fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return CountMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessValidationException("Invalid count mode '" + value + "'. Allowed: exact, approximate, none");
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package br.edu.ifmg.produto.services.pagination;
+
+import br.edu.ifmg.produto.services.cache.PrimaryReads;
+import br.edu.ifmg.produto.services.events.ProductChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Totals of product listings keyed by query and filter. Committed product
+ * writes mark every entry stale: EXACT lookups recompute stale
+ * entries, APPROXIMATE lookups keep serving them. An APPROXIMATE lookup
+ * with nothing cached uses the estimate when there is one, and otherwise
+ * counts exactly and caches the result. Exact counts that get cached read
+ * from the primary, see {@link PrimaryReads}.
+ */
+@Component
+public class ProductCountCache {
+
+    private record Entry(long value, long generation) {}
+
+    private final Map<String, Entry> counts = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    private PrimaryReads primaryReads;
+
+    public long count(String key, CountMode mode, LongSupplier exact) {
+        return count(key, mode, exact, null);
+    }
+
+    public long count(String key, CountMode mode, LongSupplier exact, Supplier<OptionalLong> estimate) {
+        if (key == null) {
+            return exact.getAsLong();
+        }
+        long current = generation.get();
+        Entry entry = counts.get(key);
+
+        if (entry != null && (entry.generation() == current || mode == CountMode.APPROXIMATE)) {
+            return entry.value();
+        }
+        if (entry == null && mode == CountMode.APPROXIMATE && estimate != null) {
+            OptionalLong estimated = estimate.get();
+            if (estimated.isPresent()) {
+                return estimated.getAsLong();
+            }
+        }
+
+        long value = primaryReads.get(exact::getAsLong);
+        if (generation.get() == current) {
+            counts.put(key, new Entry(value, current));
+        }
+        return value;
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+}
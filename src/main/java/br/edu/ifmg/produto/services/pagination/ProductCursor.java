@@ -0,0 +1,216 @@
+package br.edu.ifmg.produto.services.pagination;
+
+import br.edu.ifmg.produto.entities.Product;
+import br.edu.ifmg.produto.services.exceptions.BusinessValidationException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Opaque keyset cursor for product listings. The token carries the sort
+ * order, the last sort key and the last id, so the next page is fetched
+ * with a seek predicate instead of an OFFSET.
+ * <p>
+ * Sort keys may be null: nulls sort first in ascending order and last in
+ * descending order on every database, and a null key is encoded by leaving
+ * the value out of the token. Each page reads the null and the non-null keys
+ * as separate segments, so no query orders by an expression.
+ */
+public class ProductCursor {
+
+    private record Key(Function<String, Object> parser, Function<Product, Object> getter) {}
+
+    private static final Map<String, Key> SORTABLE = Map.of(
+            "id", new Key(Long::valueOf, Product::getId),
+            "name", new Key(s -> s, Product::getName),
+            "price", new Key(BigDecimal::new, Product::getPrice),
+            "createdAt", new Key(Instant::parse, Product::getCreatedAt)
+    );
+
+    private static final String SEPARATOR = "|";
+
+    private final Sort.Order order;
+    private final Long lastId;
+    private final Object lastValue;
+
+    private ProductCursor(Sort.Order order, Long lastId, Object lastValue) {
+        this.order = order;
+        this.lastId = lastId;
+        this.lastValue = lastValue;
+    }
+
+    public static ProductCursor first(Sort sort) {
+        Sort.Order idOrder = null;
+        Sort.Order keyOrder = null;
+        for (Sort.Order o : sort) {
+            if (!SORTABLE.containsKey(o.getProperty())) {
+                throw new BusinessValidationException("Cursor pagination cannot sort by '" + o.getProperty()
+                        + "'. Allowed: " + String.join(", ", SORTABLE.keySet()));
+            }
+            if (o.getProperty().equals("id")) {
+                idOrder = o;
+            } else if (keyOrder != null) {
+                throw new BusinessValidationException("Cursor pagination supports a single sort property");
+            } else {
+                keyOrder = o;
+            }
+        }
+
+        Sort.Order order = keyOrder != null ? keyOrder : idOrder;
+        return new ProductCursor(order != null ? order : Sort.Order.asc("id"), null, null);
+    }
+
+    public static ProductCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+            if (parts.length < 3) {
+                throw new IllegalArgumentException(raw);
+            }
+            Sort.Direction direction = Sort.Direction.fromString(parts[0]);
+            String property = parts[1];
+            Key key = SORTABLE.get(property);
+            if (key == null) {
+                throw new IllegalArgumentException(property);
+            }
+
+            Long id = Long.valueOf(parts[2]);
+            Object value = parts.length == 4 ? key.parser().apply(parts[3]) : null;
+            if (value == null && property.equals("id")) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new ProductCursor(new Sort.Order(direction, property), id, value);
+        } catch (RuntimeException e) {
+            throw new BusinessValidationException("Invalid pagination cursor");
+        }
+    }
+
+    public Sort.Order getOrder() {
+        return order;
+    }
+
+    /**
+     * Id of the last row of the previous page, or null on the first page.
+     */
+    public Long getLastId() {
+        return lastId;
+    }
+
+    public Object getLastValue() {
+        return lastValue;
+    }
+
+    /**
+     * {@code filter} restricted to the rows after this cursor, as the segments
+     * to read one after the other: rows with a null sort key and rows with a
+     * value are read separately, so each segment orders by the plain columns
+     * and seeks with a range the {@code (key, id)} index can walk.
+     */
+    public List<Specification<Product>> apply(Specification<Product> filter) {
+        if (order.getProperty().equals("id")) {
+            return List.of(segment(filter, (root, cb) -> lastId == null ? null : after(cb, root.get("id"), lastId), false));
+        }
+
+        List<Specification<Product>> segments = new ArrayList<>();
+        boolean inNullRun = lastId != null && lastValue == null;
+        if (order.isAscending()) {
+            // nulls first
+            if (lastId == null || inNullRun) {
+                segments.add(segment(filter, this::nullRun, true));
+            }
+            segments.add(segment(filter, (root, cb) -> inNullRun || lastId == null
+                    ? cb.isNotNull(root.get(order.getProperty()))
+                    : seek(root, cb), false));
+        } else {
+            // nulls last
+            if (!inNullRun) {
+                segments.add(segment(filter, (root, cb) -> lastId == null
+                        ? cb.isNotNull(root.get(order.getProperty()))
+                        : seek(root, cb), false));
+            }
+            segments.add(segment(filter, this::nullRun, true));
+        }
+        return segments;
+    }
+
+    /**
+     * Token for the page after {@code last}, the last row of the current page.
+     */
+    public String next(Product last) {
+        Key key = SORTABLE.get(order.getProperty());
+        Object value = key.getter().apply(last);
+        String raw = order.getDirection().name() + SEPARATOR + order.getProperty() + SEPARATOR + last.getId()
+                + (value == null ? "" : SEPARATOR + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Specification<Product> segment(
+            Specification<Product> filter,
+            BiFunction<Root<Product>, CriteriaBuilder, Predicate> range,
+            boolean nullKeys) {
+
+        return (root, query, cb) -> {
+            boolean keyed = !nullKeys && !order.getProperty().equals("id");
+            query.orderBy(keyed
+                    ? List.of(order(cb, root.get(order.getProperty())), order(cb, root.get("id")))
+                    : List.of(order(cb, root.get("id"))));
+
+            Predicate restriction = filter.toPredicate(root, query, cb);
+            Predicate seek = range.apply(root, cb);
+            if (restriction == null) {
+                return seek;
+            }
+            return seek == null ? restriction : cb.and(restriction, seek);
+        };
+    }
+
+    /**
+     * The rows with a null sort key, after the cursor when it is in them.
+     */
+    private Predicate nullRun(Root<Product> root, CriteriaBuilder cb) {
+        Predicate isNull = cb.isNull(root.get(order.getProperty()));
+        return lastId != null && lastValue == null ? cb.and(isNull, after(cb, root.get("id"), lastId)) : isNull;
+    }
+
+    /**
+     * {@code key >= v AND (key > v OR id > lastId)} ascending, mirrored
+     * descending: the same rows as the row value comparison
+     * {@code (key, id) > (v, lastId)}, written so the leading range bounds the
+     * index scan on every database. It also leaves out null keys.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate seek(Root<Product> root, CriteriaBuilder cb) {
+        Path key = root.get(order.getProperty());
+        Comparable value = (Comparable) lastValue;
+        if (order.isAscending()) {
+            return cb.and(cb.greaterThanOrEqualTo(key, value),
+                    cb.or(cb.greaterThan(key, value), after(cb, root.get("id"), lastId)));
+        }
+        return cb.and(cb.lessThanOrEqualTo(key, value),
+                cb.or(cb.lessThan(key, value), after(cb, root.get("id"), lastId)));
+    }
+
+    private Predicate after(CriteriaBuilder cb, Path<Long> id, Long last) {
+        return order.isAscending() ? cb.greaterThan(id, last) : cb.lessThan(id, last);
+    }
+
+    private Order order(CriteriaBuilder cb, Expression<?> expression) {
+        return order.isAscending() ? cb.asc(expression) : cb.desc(expression);
+    }
+
+}
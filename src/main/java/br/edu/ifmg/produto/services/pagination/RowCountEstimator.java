@@ -0,0 +1,87 @@
+package br.edu.ifmg.produto.services.pagination;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalLong;
+
+/**
+ * Row count of a table from the database's own statistics, without scanning
+ * it. Each database keeps them somewhere else, so the query is picked from
+ * the connected product; on a database without a known query, or when the
+ * statistics are missing, there is no estimate and callers count exactly.
+ * A query the database rejects is not tried again; other failures only cost
+ * the estimate of that call.
+ */
+@Slf4j
+@Component
+public class RowCountEstimator {
+
+    private static final String UNSUPPORTED = "";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile String query;
+
+    public OptionalLong estimate(String table) {
+        String sql = query();
+        if (sql.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        try {
+            List<Long> rows = jdbcTemplate.queryForList(sql, Long.class, table);
+            if (rows.isEmpty() || rows.get(0) == null || rows.get(0) < 0) {
+                return OptionalLong.empty();
+            }
+            return OptionalLong.of(rows.get(0));
+        } catch (BadSqlGrammarException e) {
+            // the database rejects the statistics query itself: it will not work on a later call either
+            log.warn("Row count estimates are not available, counting exactly: {}", e.getMostSpecificCause().getMessage());
+            query = UNSUPPORTED;
+            return OptionalLong.empty();
+        } catch (DataAccessException e) {
+            log.warn("Row count estimate of {} failed, counting exactly: {}", table, e.getMostSpecificCause().getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    private String query() {
+        String sql = query;
+        if (sql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+            sql = queryFor(product == null ? "" : product.toLowerCase(Locale.ROOT));
+            query = sql;
+        }
+        return sql;
+    }
+
+    private static String queryFor(String product) {
+        if (product.contains("h2")) {
+            return "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES "
+                    + "WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND TABLE_NAME = UPPER(?)";
+        }
+        if (product.contains("postgres")) {
+            // reltuples is -1 until the table is first vacuumed or analyzed
+            return "SELECT c.reltuples::bigint FROM pg_class c "
+                    + "WHERE c.oid = to_regclass(?) AND c.reltuples >= 0";
+        }
+        if (product.contains("mysql") || product.contains("mariadb")) {
+            return "SELECT TABLE_ROWS FROM information_schema.TABLES "
+                    + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+        }
+        if (product.contains("sql server")) {
+            return "SELECT SUM(p.rows) FROM sys.partitions p "
+                    + "WHERE p.object_id = OBJECT_ID(?) AND p.index_id IN (0, 1)";
+        }
+        return UNSUPPORTED;
+    }
+
+}
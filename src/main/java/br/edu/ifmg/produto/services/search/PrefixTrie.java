@@ -0,0 +1,238 @@
+package br.edu.ifmg.produto.services.search;
+
+import br.edu.ifmg.produto.util.TextNormalizer;
+
+import java.util.*;
+
+/**
+ * Weighted completion trie over short texts. A text is reachable from the start
+ * of each of its words, so "gam" completes "PC Gamer". Every node keeps the
+ * {@value #TOP} heaviest entries of its subtree, so a completion only walks the
+ * prefix; writes recompute those lists along the touched paths, bottom-up.
+ * Children live in parallel sorted arrays rather than maps to keep nodes small.
+ * Not thread-safe: callers guard it with their own lock.
+ */
+public class PrefixTrie {
+
+    public static final int TOP = 10;
+
+    private static final int MAX_DEPTH = 32;
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::weight).reversed()
+            .thenComparingInt(e -> e.text().length())
+            .thenComparing(Entry::text);
+
+    public record Entry(String key, String text, long weight) {}
+
+    private static final class Node {
+        char[] labels = new char[0];
+        Node[] children = new Node[0];
+        Entry[] terminal = NO_ENTRIES;
+        Entry[] top = NO_ENTRIES;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node addChild(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            Node node = new Node();
+            labels = insert(labels, at, c);
+            children = insert(children, at, node);
+            return node;
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i >= 0) {
+                char[] l = new char[labels.length - 1];
+                System.arraycopy(labels, 0, l, 0, i);
+                System.arraycopy(labels, i + 1, l, i, l.length - i);
+                labels = l;
+                Node[] n = new Node[children.length - 1];
+                System.arraycopy(children, 0, n, 0, i);
+                System.arraycopy(children, i + 1, n, i, n.length - i);
+                children = n;
+            }
+        }
+
+        boolean isEmpty() {
+            return labels.length == 0 && terminal.length == 0;
+        }
+    }
+
+    private final Node root = new Node();
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Adds or replaces the entry identified by {@code key}.
+     */
+    public void put(String key, String text, long weight) {
+        remove(key);
+        Entry entry = new Entry(key, text, weight);
+        entries.put(key, entry);
+        for (String path : paths(text)) {
+            insert(path, entry);
+        }
+    }
+
+    public void remove(String key) {
+        Entry previous = entries.remove(key);
+        if (previous == null) {
+            return;
+        }
+        for (String path : paths(previous.text())) {
+            delete(path, previous);
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        root.labels = new char[0];
+        root.children = new Node[0];
+        root.terminal = NO_ENTRIES;
+        root.top = NO_ENTRIES;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Up to {@code limit} (at most {@value #TOP}) entries with a word starting
+     * with {@code prefix}, heaviest first.
+     */
+    public List<Entry> complete(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        Node node = root;
+        String walked = truncate(normalized);
+        for (int i = 0; i < walked.length() && node != null; i++) {
+            node = node.child(walked.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        List<Entry> result = new ArrayList<>(Math.min(limit, TOP));
+        for (Entry entry : node.top) {
+            if (result.size() == limit) {
+                break;
+            }
+            // past MAX_DEPTH the path no longer spells the whole prefix
+            if (walked.length() == normalized.length() || matches(entry.text(), normalized)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return TextNormalizer.fold(text).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    private void insert(String path, Entry entry) {
+        Node[] nodes = new Node[path.length() + 1];
+        nodes[0] = root;
+        for (int i = 0; i < path.length(); i++) {
+            nodes[i + 1] = nodes[i].addChild(path.charAt(i));
+        }
+        Node leaf = nodes[path.length()];
+        leaf.terminal = insert(leaf.terminal, leaf.terminal.length, entry);
+        recomputeTop(nodes);
+    }
+
+    private void delete(String path, Entry entry) {
+        Node[] nodes = new Node[path.length() + 1];
+        nodes[0] = root;
+        for (int i = 0; i < path.length(); i++) {
+            nodes[i + 1] = nodes[i].child(path.charAt(i));
+            if (nodes[i + 1] == null) {
+                return;
+            }
+        }
+        Node leaf = nodes[path.length()];
+        leaf.terminal = Arrays.stream(leaf.terminal)
+                .filter(e -> !e.key().equals(entry.key()))
+                .toArray(Entry[]::new);
+        for (int i = path.length(); i > 0 && nodes[i].isEmpty(); i--) {
+            nodes[i - 1].removeChild(path.charAt(i - 1));
+            nodes[i] = null;
+        }
+        recomputeTop(nodes);
+    }
+
+    /**
+     * A node's top list is the best of its own entries and its children's top
+     * lists: any entry among the subtree's best is also among its child's best.
+     */
+    private static void recomputeTop(Node[] path) {
+        for (int i = path.length - 1; i >= 0; i--) {
+            Node node = path[i];
+            if (node == null) {
+                continue;
+            }
+            Map<String, Entry> candidates = new HashMap<>();
+            for (Entry entry : node.terminal) {
+                candidates.put(entry.key(), entry);
+            }
+            for (Node child : node.children) {
+                for (Entry entry : child.top) {
+                    candidates.put(entry.key(), entry);
+                }
+            }
+            node.top = candidates.values().stream()
+                    .sorted(RANKING)
+                    .limit(TOP)
+                    .toArray(Entry[]::new);
+        }
+    }
+
+    /**
+     * The normalized text from the start of each of its words, cut at {@value #MAX_DEPTH} characters.
+     */
+    private static Set<String> paths(String text) {
+        String normalized = normalize(text);
+        Set<String> paths = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                paths.add(truncate(normalized.substring(i)));
+            }
+        }
+        return paths;
+    }
+
+    private static boolean matches(String text, String prefix) {
+        String normalized = normalize(text);
+        return normalized.startsWith(prefix) || normalized.contains(" " + prefix);
+    }
+
+    private static String truncate(String text) {
+        return text.length() > MAX_DEPTH ? text.substring(0, MAX_DEPTH) : text;
+    }
+
+    private static char[] insert(char[] array, int at, char value) {
+        char[] copy = new char[array.length + 1];
+        System.arraycopy(array, 0, copy, 0, at);
+        copy[at] = value;
+        System.arraycopy(array, at, copy, at + 1, array.length - at);
+        return copy;
+    }
+
+    private static <T> T[] insert(T[] array, int at, T value) {
+        T[] copy = Arrays.copyOf(array, array.length + 1);
+        System.arraycopy(array, at, copy, at + 1, array.length - at);
+        copy[at] = value;
+        return copy;
+    }
+
+}
@@ -0,0 +1,115 @@
+package br.edu.ifmg.produto.services.search;
+
+import br.edu.ifmg.produto.dtos.CategoryFacetDTO;
+import br.edu.ifmg.produto.dtos.PriceFacetDTO;
+import br.edu.ifmg.produto.dtos.ProductFacetsDTO;
+import br.edu.ifmg.produto.projections.CategoryFacetProjection;
+import br.edu.ifmg.produto.projections.PriceFacetProjection;
+import br.edu.ifmg.produto.repository.ProductRepository;
+import br.edu.ifmg.produto.util.TextNormalizer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Category and price range counts for the product listings. Name filtered
+ * facets are counted in memory over the matches of the search indexes, the
+ * same ones the listings page through; the database only counts them while
+ * the indexes are not ready. Otherwise each facet is a single aggregate query,
+ * however many categories or ranges there are. Price ranges are
+ * {@code product-facets.price-bucket-width} wide.
+ */
+@Service
+public class ProductFacetService {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductTextIndex textIndex;
+
+    @Autowired
+    private ProductSearchIndex searchIndex;
+
+    @Value("${product-facets.price-bucket-width:500}")
+    private BigDecimal bucketWidth;
+
+    @Transactional(readOnly = true)
+    public ProductFacetsDTO facetsByCategory(Long categoryId, String name) {
+        if (name != null && searchIndex.isReady()) {
+            // categories ignore the categoryId filter, price ranges apply it
+            return fromIndex(
+                    searchIndex.countPerCategory(searchIndex.searchByProductName(name, null)),
+                    searchIndex.countPerPriceRange(searchIndex.searchByProductName(name, categoryId), bucketWidth),
+                    searchIndex::categoryName);
+        }
+        return new ProductFacetsDTO(
+                categories(productRepository.countPerCategoryByName(TextNormalizer.fold(name))),
+                prices(productRepository.countPerPriceByCategoryAndName(categoryId, TextNormalizer.fold(name), bucketWidth)));
+    }
+
+    /**
+     * Counted over the same matches as the search listing: from the text index
+     * when the listing ran on it ({@code fullText}), otherwise over name and
+     * category name substrings.
+     */
+    @Transactional(readOnly = true)
+    public ProductFacetsDTO facetsBySearch(String name, boolean fullText) {
+        if (fullText) {
+            ProductTextIndex.FacetCounts counts = textIndex.facets(name, bucketWidth);
+            return fromIndex(counts.categories(), counts.priceBuckets(), textIndex::categoryName);
+        }
+        if (searchIndex.isReady()) {
+            List<Long> ids = searchIndex.searchByProductOrCategoryName(name);
+            return fromIndex(searchIndex.countPerCategory(ids), searchIndex.countPerPriceRange(ids, bucketWidth),
+                    searchIndex::categoryName);
+        }
+        return new ProductFacetsDTO(
+                categories(productRepository.countPerCategoryBySearch(TextNormalizer.fold(name))),
+                prices(productRepository.countPerPriceBySearch(TextNormalizer.fold(name), bucketWidth)));
+    }
+
+    private ProductFacetsDTO fromIndex(
+            Map<Long, Long> categoryCounts,
+            Map<Long, Long> priceCounts,
+            Function<Long, String> categoryName) {
+
+        List<CategoryFacetDTO> categories = categoryCounts.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .map(e -> new CategoryFacetDTO(e.getKey(), categoryName.apply(e.getKey()), e.getValue()))
+                .toList();
+        List<PriceFacetDTO> prices = priceCounts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.nullsFirst(Comparator.naturalOrder())))
+                .map(e -> price(e.getKey() == null ? null : BigDecimal.valueOf(e.getKey()), e.getValue()))
+                .toList();
+        return new ProductFacetsDTO(categories, prices);
+    }
+
+    private List<CategoryFacetDTO> categories(List<CategoryFacetProjection> rows) {
+        return rows.stream()
+                .map(row -> new CategoryFacetDTO(row.getCategoryId(), row.getName(), row.getCount()))
+                .toList();
+    }
+
+    private List<PriceFacetDTO> prices(List<PriceFacetProjection> rows) {
+        return rows.stream()
+                .map(row -> price(row.getBucket(), row.getCount()))
+                .toList();
+    }
+
+    private PriceFacetDTO price(BigDecimal bucket, long count) {
+        if (bucket == null) {
+            return new PriceFacetDTO(null, null, count);
+        }
+        BigDecimal min = bucket.multiply(bucketWidth);
+        return new PriceFacetDTO(min, min.add(bucketWidth), count);
+    }
+
+}
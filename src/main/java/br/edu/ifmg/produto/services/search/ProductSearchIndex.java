@@ -0,0 +1,351 @@
+package br.edu.ifmg.produto.services.search;
+
+import br.edu.ifmg.produto.entities.Category;
+import br.edu.ifmg.produto.projections.ProductIndexProjection;
+import br.edu.ifmg.produto.repository.CategoryRepository;
+import br.edu.ifmg.produto.repository.ProductRepository;
+import br.edu.ifmg.produto.services.events.CategoryChangedEvent;
+import br.edu.ifmg.produto.services.events.ProductChangedEvent;
+import br.edu.ifmg.produto.services.pagination.ProductCursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over product names and category names. It is loaded
+ * once at startup and kept in sync with committed product/category writes, so
+ * name searches resolve candidate IDs without a LIKE scan over tb_product.
+ * It also keeps each product's sort keys, so a page of matches, by offset or
+ * after a cursor, can be ordered and cut here and only that page loaded from
+ * the database.
+ * <p>
+ * Events committed while {@link #rebuild()} reads the database may or may not
+ * be in what it reads, so they are applied as usual and also replayed on top
+ * of the rebuilt index.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private final TrigramIndex productNames = new TrigramIndex();
+    private final TrigramIndex categoryNames = new TrigramIndex();
+    private final Map<Long, String> categoryLabels = new HashMap<>();
+    private final Map<Long, Set<Long>> productCategories = new HashMap<>();
+    private final Map<Long, Set<Long>> categoryProducts = new HashMap<>();
+    private final Map<Long, SortKeys> sortKeys = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Runnable> pending = new ArrayList<>();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    private record SortKeys(String name, BigDecimal price, Instant createdAt) {}
+
+    private static final Map<String, Function<SortKeys, Comparable<?>>> SORTABLE = Map.of(
+            "name", SortKeys::name,
+            "price", SortKeys::price,
+            "createdAt", SortKeys::createdAt);
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        setRebuilding(true);
+        try {
+            List<Category> categories = categoryRepository.findAll();
+            List<ProductIndexProjection> rows = productRepository.findIndexEntries();
+
+            lock.writeLock().lock();
+            try {
+                productNames.clear();
+                categoryNames.clear();
+                categoryLabels.clear();
+                productCategories.clear();
+                categoryProducts.clear();
+                sortKeys.clear();
+
+                categories.forEach(c -> {
+                    categoryNames.put(c.getId(), c.getName());
+                    categoryLabels.put(c.getId(), c.getName());
+                });
+                for (ProductIndexProjection row : rows) {
+                    productNames.put(row.getId(), row.getName());
+                    sortKeys.put(row.getId(), new SortKeys(row.getName(), row.getPrice(), row.getCreatedAt()));
+                    Set<Long> set = productCategories.computeIfAbsent(row.getId(), id -> new HashSet<>());
+                    if (row.getCategoryId() != null) {
+                        set.add(row.getCategoryId());
+                        categoryProducts.computeIfAbsent(row.getCategoryId(), id -> new HashSet<>()).add(row.getId());
+                    }
+                }
+                pending.forEach(Runnable::run);
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            setRebuilding(false);
+        }
+        log.info("Product search index built with {} products and {} categories", productNames.size(), categoryNames.size());
+    }
+
+    private void setRebuilding(boolean value) {
+        lock.writeLock().lock();
+        try {
+            rebuilding = value;
+            pending.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        apply(() -> {
+            removeProduct(event.getProductId());
+            if (event.getType() == ProductChangedEvent.Type.SAVED) {
+                productNames.put(event.getProductId(), event.getName());
+                sortKeys.put(event.getProductId(),
+                        new SortKeys(event.getName(), event.getPrice(), event.getCreatedAt()));
+                productCategories.put(event.getProductId(), new HashSet<>(event.getCategoryIds()));
+                event.getCategoryIds().forEach(categoryId ->
+                        categoryProducts.computeIfAbsent(categoryId, id -> new HashSet<>()).add(event.getProductId()));
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        apply(() -> {
+            if (event.getType() == CategoryChangedEvent.Type.SAVED) {
+                categoryNames.put(event.getCategoryId(), event.getName());
+                categoryLabels.put(event.getCategoryId(), event.getName());
+            } else {
+                categoryNames.remove(event.getCategoryId());
+                categoryLabels.remove(event.getCategoryId());
+                Set<Long> products = categoryProducts.remove(event.getCategoryId());
+                if (products != null) {
+                    products.forEach(p -> productCategories.computeIfPresent(p, (id, set) -> {
+                        set.remove(event.getCategoryId());
+                        return set;
+                    }));
+                }
+            }
+        });
+    }
+
+    private void apply(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (rebuilding) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Product IDs whose name contains {@code name}, optionally restricted to a category.
+     */
+    public List<Long> searchByProductName(String name, Long categoryId) {
+        lock.readLock().lock();
+        try {
+            Set<Long> ids = productNames.search(name);
+            if (categoryId != null) {
+                ids.retainAll(categoryProducts.getOrDefault(categoryId, Set.of()));
+            }
+            return sorted(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Product IDs whose name, or the name of one of its categories, contains {@code name}.
+     */
+    public List<Long> searchByProductOrCategoryName(String name) {
+        lock.readLock().lock();
+        try {
+            Set<Long> ids = new HashSet<>(productNames.search(name));
+            for (Long categoryId : categoryNames.search(name)) {
+                ids.addAll(categoryProducts.getOrDefault(categoryId, Set.of()));
+            }
+            return sorted(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * How many of {@code ids} each category holds.
+     */
+    public Map<Long, Long> countPerCategory(Collection<Long> ids) {
+        Map<Long, Long> counts = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : ids) {
+                productCategories.getOrDefault(id, Set.of()).forEach(c -> counts.merge(c, 1L, Long::sum));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return counts;
+    }
+
+    /**
+     * How many of {@code ids} fall in each price range {@code width} wide,
+     * keyed by the price divided by the width, rounded down; products without
+     * a price are counted under null.
+     */
+    public Map<Long, Long> countPerPriceRange(Collection<Long> ids, BigDecimal width) {
+        Map<Long, Long> counts = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : ids) {
+                SortKeys keys = sortKeys.get(id);
+                BigDecimal price = keys == null ? null : keys.price();
+                Long range = price == null ? null : price.divide(width, 0, RoundingMode.FLOOR).longValue();
+                counts.merge(range, 1L, Long::sum);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return counts;
+    }
+
+    public String categoryName(Long categoryId) {
+        lock.readLock().lock();
+        try {
+            return categoryLabels.get(categoryId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean canSort(Sort sort) {
+        return sort.stream().allMatch(order -> order.getProperty().equals("id")
+                || SORTABLE.containsKey(order.getProperty()));
+    }
+
+    /**
+     * {@code ids} in {@code sort} order, ties broken by ascending id. Nulls come
+     * first in ascending order and last in descending order, as in the database.
+     */
+    public List<Long> sort(List<Long> ids, Sort sort) {
+        Comparator<Long> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Long> next = comparatorFor(order.getProperty());
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<Long> byId = Comparator.naturalOrder();
+        comparator = comparator == null ? byId : comparator.thenComparing(byId);
+
+        List<Long> list = new ArrayList<>(ids);
+        lock.readLock().lock();
+        try {
+            list.sort(comparator);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return list;
+    }
+
+    /**
+     * The first {@code limit} of {@code ids} after {@code cursor}, in cursor
+     * order: the sort key and then the id, both in the cursor's direction,
+     * nulls first ascending and last descending, as {@link ProductCursor}
+     * orders the database rows.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<Long> seek(List<Long> ids, ProductCursor cursor, int limit) {
+        Sort.Order order = cursor.getOrder();
+        Comparator<Long> comparator = comparatorFor(order.getProperty()).thenComparing(Comparator.naturalOrder());
+        if (order.isDescending()) {
+            comparator = comparator.reversed();
+        }
+
+        Comparator<Comparable> values = Comparator.nullsFirst(Comparator.naturalOrder());
+        Long lastId = cursor.getLastId();
+        Comparable lastValue = (Comparable) cursor.getLastValue();
+        boolean keyed = !order.getProperty().equals("id");
+        int direction = order.isAscending() ? 1 : -1;
+
+        lock.readLock().lock();
+        try {
+            return ids.stream()
+                    .filter(id -> {
+                        if (lastId == null) {
+                            return true;
+                        }
+                        int c = keyed ? values.compare(valueOf(order.getProperty(), id), lastValue) : 0;
+                        return (c != 0 ? c : id.compareTo(lastId)) * direction > 0;
+                    })
+                    .sorted(comparator)
+                    .limit(limit)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private Comparable valueOf(String property, Long id) {
+        SortKeys keys = sortKeys.get(id);
+        return keys == null ? null : (Comparable) SORTABLE.get(property).apply(keys);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Comparator<Long> comparatorFor(String property) {
+        if (property.equals("id")) {
+            return Comparator.naturalOrder();
+        }
+        if (!SORTABLE.containsKey(property)) {
+            throw new IllegalArgumentException("Unsupported sort property: " + property);
+        }
+        Comparator<Comparable> values = Comparator.nullsFirst(Comparator.naturalOrder());
+        return Comparator.comparing(id -> valueOf(property, id), values);
+    }
+
+    private void removeProduct(Long productId) {
+        productNames.remove(productId);
+        sortKeys.remove(productId);
+        Set<Long> categories = productCategories.remove(productId);
+        if (categories != null) {
+            categories.forEach(c -> categoryProducts.computeIfPresent(c, (id, set) -> {
+                set.remove(productId);
+                return set;
+            }));
+        }
+    }
+
+    private static List<Long> sorted(Set<Long> ids) {
+        List<Long> list = new ArrayList<>(ids);
+        Collections.sort(list);
+        return list;
+    }
+
+}
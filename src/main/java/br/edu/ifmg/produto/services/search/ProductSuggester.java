@@ -0,0 +1,234 @@
+package br.edu.ifmg.produto.services.search;
+
+import br.edu.ifmg.produto.dtos.SuggestionDTO;
+import br.edu.ifmg.produto.entities.Category;
+import br.edu.ifmg.produto.projections.ProductIndexProjection;
+import br.edu.ifmg.produto.projections.ProductPopularityProjection;
+import br.edu.ifmg.produto.repository.CartItemRepository;
+import br.edu.ifmg.produto.repository.CategoryRepository;
+import br.edu.ifmg.produto.repository.ProductRepository;
+import br.edu.ifmg.produto.services.events.CategoryChangedEvent;
+import br.edu.ifmg.produto.services.events.ProductChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Search box completions over product and category names, served from a
+ * {@link PrefixTrie}. Products sharing a name are one suggestion, weighted by
+ * how many of them there are and how many carts they are in; a category is
+ * weighted by its number of products. Built at startup like
+ * {@link ProductSearchIndex} and kept in sync with committed writes; cart
+ * counts are read at startup only.
+ */
+@Slf4j
+@Component
+public class ProductSuggester {
+
+    private static final String PRODUCT_KEY = "p:";
+    private static final String CATEGORY_KEY = "c:";
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    private static final class NameGroup {
+        final String text;
+        int products;
+        long weight;
+
+        NameGroup(String text) {
+            this.text = text;
+        }
+    }
+
+    private final PrefixTrie trie = new PrefixTrie();
+    private final Map<Long, String> productNames = new HashMap<>();
+    private final Map<Long, Set<Long>> productCategories = new HashMap<>();
+    private final Map<Long, Long> cartCounts = new HashMap<>();
+    private final Map<String, NameGroup> nameGroups = new HashMap<>();
+    private final Map<Long, String> categoryNames = new HashMap<>();
+    private final Map<Long, Integer> categoryCounts = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Runnable> pending = new ArrayList<>();
+    private boolean rebuilding;
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        setRebuilding(true);
+        try {
+            List<Category> categories = categoryRepository.findAll();
+            List<ProductIndexProjection> rows = productRepository.findIndexEntries();
+            List<ProductPopularityProjection> popularity = cartItemRepository.countPerProduct();
+
+            Map<Long, String> names = new HashMap<>();
+            Map<Long, Set<Long>> links = new HashMap<>();
+            for (ProductIndexProjection row : rows) {
+                names.put(row.getId(), row.getName());
+                Set<Long> set = links.computeIfAbsent(row.getId(), id -> new HashSet<>());
+                if (row.getCategoryId() != null) {
+                    set.add(row.getCategoryId());
+                }
+            }
+
+            lock.writeLock().lock();
+            try {
+                trie.clear();
+                productNames.clear();
+                productCategories.clear();
+                cartCounts.clear();
+                nameGroups.clear();
+                categoryNames.clear();
+                categoryCounts.clear();
+
+                popularity.forEach(p -> cartCounts.put(p.getProductId(), p.getCount()));
+                categories.forEach(c -> categoryNames.put(c.getId(), c.getName()));
+                names.forEach((id, name) -> addProduct(id, name, links.get(id)));
+                categoryNames.keySet().forEach(this::putCategory);
+                pending.forEach(Runnable::run);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            setRebuilding(false);
+        }
+        log.info("Product suggester built with {} suggestions", trie.size());
+    }
+
+    private void setRebuilding(boolean value) {
+        lock.writeLock().lock();
+        try {
+            rebuilding = value;
+            pending.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        apply(() -> {
+            Set<Long> touched = new HashSet<>(removeProduct(event.getProductId()));
+            if (event.getType() == ProductChangedEvent.Type.SAVED) {
+                addProduct(event.getProductId(), event.getName(), event.getCategoryIds());
+                touched.addAll(event.getCategoryIds());
+            } else {
+                cartCounts.remove(event.getProductId());
+            }
+            touched.forEach(this::putCategory);
+        });
+    }
+
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        apply(() -> {
+            if (event.getType() == CategoryChangedEvent.Type.SAVED) {
+                categoryNames.put(event.getCategoryId(), event.getName());
+                putCategory(event.getCategoryId());
+            } else {
+                categoryNames.remove(event.getCategoryId());
+                categoryCounts.remove(event.getCategoryId());
+                productCategories.values().forEach(set -> set.remove(event.getCategoryId()));
+                trie.remove(CATEGORY_KEY + event.getCategoryId());
+            }
+        });
+    }
+
+    private void apply(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (rebuilding) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} suggestions with a word starting with {@code prefix}, most popular first.
+     */
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        List<PrefixTrie.Entry> entries;
+        lock.readLock().lock();
+        try {
+            entries = trie.complete(prefix, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return entries.stream().map(ProductSuggester::toDTO).toList();
+    }
+
+    private void addProduct(Long productId, String name, Set<Long> categoryIds) {
+        if (name == null) {
+            return;
+        }
+        productNames.put(productId, name);
+        productCategories.put(productId, new HashSet<>(categoryIds));
+        categoryIds.forEach(c -> categoryCounts.merge(c, 1, Integer::sum));
+
+        String key = PRODUCT_KEY + PrefixTrie.normalize(name);
+        NameGroup group = nameGroups.computeIfAbsent(key, k -> new NameGroup(name));
+        group.products++;
+        group.weight += weight(productId);
+        trie.put(key, group.text, group.weight);
+    }
+
+    /**
+     * Removes a product and returns the categories it was in.
+     */
+    private Set<Long> removeProduct(Long productId) {
+        String name = productNames.remove(productId);
+        Set<Long> categoryIds = productCategories.remove(productId);
+        if (name == null) {
+            return Set.of();
+        }
+        categoryIds.forEach(c -> categoryCounts.computeIfPresent(c, (id, count) -> count > 1 ? count - 1 : null));
+
+        String key = PRODUCT_KEY + PrefixTrie.normalize(name);
+        NameGroup group = nameGroups.get(key);
+        group.products--;
+        group.weight -= weight(productId);
+        if (group.products == 0) {
+            nameGroups.remove(key);
+            trie.remove(key);
+        } else {
+            trie.put(key, group.text, group.weight);
+        }
+        return categoryIds;
+    }
+
+    private void putCategory(Long categoryId) {
+        String name = categoryNames.get(categoryId);
+        if (name != null) {
+            trie.put(CATEGORY_KEY + categoryId, name, categoryCounts.getOrDefault(categoryId, 0));
+        }
+    }
+
+    private long weight(Long productId) {
+        return 1 + cartCounts.getOrDefault(productId, 0L);
+    }
+
+    private static SuggestionDTO toDTO(PrefixTrie.Entry entry) {
+        if (entry.key().startsWith(CATEGORY_KEY)) {
+            Long categoryId = Long.valueOf(entry.key().substring(CATEGORY_KEY.length()));
+            return new SuggestionDTO(entry.text(), SuggestionDTO.Type.CATEGORY, categoryId);
+        }
+        return new SuggestionDTO(entry.text(), SuggestionDTO.Type.PRODUCT, null);
+    }
+
+}
@@ -0,0 +1,548 @@
+package br.edu.ifmg.produto.services.search;
+
+import br.edu.ifmg.produto.projections.ProductTextProjection;
+import br.edu.ifmg.produto.repository.CategoryRepository;
+import br.edu.ifmg.produto.repository.ProductRepository;
+import br.edu.ifmg.produto.services.events.CategoryChangedEvent;
+import br.edu.ifmg.produto.services.events.ProductChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.LockObtainFailedException;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded Lucene index over product names, descriptions and category names,
+ * ranked with BM25. It lives on local disk and is committed periodically;
+ * committed product and category writes are applied as they happen and become
+ * searchable within a second. At startup it is rebuilt from the database by
+ * several threads, each indexing a range of product ids, while the previous
+ * run's index keeps answering. Searches return product ids only; callers load
+ * the entities for the requested page.
+ */
+@Slf4j
+@Component
+public class ProductTextIndex {
+
+    private static final String ID = "id";
+    private static final String ID_SORT = "id_sort";
+    private static final String NAME = "name";
+    private static final String NAME_SORT = "name_sort";
+    private static final String DESCRIPTION = "description";
+    private static final String PRICE = "price";
+    private static final String PRICE_CENTS = "price_cents";
+    private static final String CATEGORIES = "categories";
+    private static final String CATEGORY_ID = "category_id";
+    private static final String CATEGORY_ID_VALUES = "category_id_values";
+    private static final String GENERATION = "generation";
+
+    private static final float NAME_BOOST = 3f;
+    private static final float CATEGORY_BOOST = 2f;
+    private static final float PREFIX_BOOST = 0.5f;
+
+    private static final int REBUILD_CHUNK = 1000;
+    private static final double MAX_STALE_SECONDS = 1.0;
+    private static final double MIN_STALE_SECONDS = 0.025;
+
+    private static final Map<String, SortField.Type> SORTABLE = Map.of(
+            "id", SortField.Type.LONG,
+            "name", SortField.Type.STRING,
+            "price", SortField.Type.LONG);
+    private static final Map<String, String> SORT_FIELDS = Map.of(
+            "id", ID_SORT,
+            "name", NAME_SORT,
+            "price", PRICE_CENTS);
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Value("${product-text-index.path}")
+    private Path path;
+
+    @Value("${product-text-index.rebuild-threads:0}")
+    private int rebuildThreads;
+
+    /**
+     * Ids of a page of hits, in order, and the number of hits.
+     */
+    public record Hits(List<Long> ids, long total) {}
+
+    /**
+     * Matching products per category id and per price bucket; the bucket is
+     * {@code floor(price / width)}, null for products without a price.
+     */
+    public record FacetCounts(Map<Long, Long> categories, Map<Long, Long> priceBuckets) {}
+
+    private final Analyzer analyzer = new ProductTextAnalyzer();
+    private final Map<Long, String> categoryNames = new ConcurrentHashMap<>();
+    private final Map<Long, Boolean> writtenDuringRebuild = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = FSDirectory.open(path);
+        try {
+            writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        } catch (LockObtainFailedException e) {
+            log.warn("Product text index at {} is in use by another instance, falling back to memory", path);
+            directory.close();
+            directory = new ByteBuffersDirectory();
+            writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        }
+        ready = writer.getDocStats().numDocs > 0;
+        searcherManager = new SearcherManager(writer, null);
+        reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, MAX_STALE_SECONDS, MIN_STALE_SECONDS);
+        reopenThread.setName("product-text-index-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    @Scheduled(fixedDelayString = "${product-text-index.commit-interval-ms:30000}")
+    public synchronized void commit() throws IOException {
+        if (writer.isOpen() && writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    /**
+     * Reindexes every product. Documents are stamped with the rebuild's
+     * generation and older ones are dropped at the end, so the index is never
+     * empty in between. Writes that arrive meanwhile win over the rows the
+     * rebuild read before them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        categoryRepository.findAll().forEach(c -> categoryNames.put(c.getId(), c.getName()));
+        long maxId = productRepository.findMaxId();
+
+        int threads = (int) Math.min(maxId / REBUILD_CHUNK + 1,
+                rebuildThreads > 0 ? rebuildThreads : Runtime.getRuntime().availableProcessors());
+        ExecutorService pool = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("product-text-index-rebuild-", 0).daemon().factory());
+
+        generation.set(System.currentTimeMillis());
+        writtenDuringRebuild.clear();
+        rebuilding = true;
+        try {
+            List<Future<Integer>> chunks = new ArrayList<>();
+            for (long from = 0; from <= maxId; from += REBUILD_CHUNK) {
+                long fromId = from;
+                chunks.add(pool.submit(() -> indexRange(fromId, fromId + REBUILD_CHUNK - 1)));
+            }
+            long products = 0;
+            for (Future<Integer> chunk : chunks) {
+                products += chunk.get();
+            }
+            writer.deleteDocuments(LongPoint.newRangeQuery(GENERATION, Long.MIN_VALUE, generation.get() - 1));
+            commit();
+            searcherManager.maybeRefreshBlocking();
+            ready = true;
+            log.info("Product text index rebuilt with {} products by {} threads in {} ms",
+                    products, threads, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | ExecutionException e) {
+            log.error("Product text index rebuild failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            rebuilding = false;
+            writtenDuringRebuild.clear();
+            pool.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        try {
+            Document document = event.getType() == ProductChangedEvent.Type.SAVED
+                    ? document(event.getProductId(), event.getName(), event.getDescription(),
+                            event.getPrice(), event.getCategoryIds())
+                    : null;
+            apply(event.getProductId(), document);
+        } catch (UncheckedIOException | AlreadyClosedException e) {
+            log.error("Could not update product {} in the text index", event.getProductId(), e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        Long categoryId = event.getCategoryId();
+        boolean changed = event.getType() == CategoryChangedEvent.Type.SAVED
+                ? !event.getName().equals(categoryNames.put(categoryId, event.getName()))
+                : categoryNames.remove(categoryId) != null;
+        if (!changed) {
+            return;
+        }
+        try {
+            reindexCategory(categoryId);
+        } catch (IOException | UncheckedIOException | AlreadyClosedException e) {
+            log.error("Could not reindex the products of category {}", categoryId, e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Whether {@link #search} can order by every property of {@code sort}.
+     */
+    public boolean canSort(Sort sort) {
+        return sort.stream().allMatch(order -> SORTABLE.containsKey(order.getProperty()));
+    }
+
+    public String categoryName(Long categoryId) {
+        return categoryNames.get(categoryId);
+    }
+
+    /**
+     * Products matching every word of {@code text} in their name, description
+     * or category names; the last word also matches as a prefix. Ordered by
+     * relevance unless the page asks for a sort. A blank text matches all.
+     */
+    public Hits search(String text, Pageable pageable) {
+        Query query = query(text);
+        IndexSearcher searcher = acquire();
+        try {
+            int offset = pageable.isPaged() ? Math.toIntExact(pageable.getOffset()) : 0;
+            int wanted = pageable.isPaged() ? offset + pageable.getPageSize() : Math.max(1, searcher.count(query));
+            TopDocs top = pageable.getSort().isSorted()
+                    ? searcher.search(query, wanted, sort(pageable.getSort()))
+                    : searcher.search(query, wanted);
+            long total = top.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                    ? top.totalHits.value
+                    : searcher.count(query);
+
+            StoredFields stored = searcher.storedFields();
+            List<Long> ids = new ArrayList<>();
+            for (int i = offset; i < top.scoreDocs.length; i++) {
+                ids.add(Long.valueOf(stored.document(top.scoreDocs[i].doc, Set.of(ID)).get(ID)));
+            }
+            return new Hits(ids, total);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * Category and price bucket counts of every product {@link #search} would match, in one pass over the hits.
+     */
+    public FacetCounts facets(String text, BigDecimal bucketWidth) {
+        long bucketCents = cents(bucketWidth);
+        IndexSearcher searcher = acquire();
+        try {
+            return searcher.search(query(text), new CollectorManager<FacetCollector, FacetCounts>() {
+                @Override
+                public FacetCollector newCollector() {
+                    return new FacetCollector(bucketCents);
+                }
+
+                @Override
+                public FacetCounts reduce(Collection<FacetCollector> collectors) {
+                    FacetCounts counts = new FacetCounts(new HashMap<>(), new HashMap<>());
+                    for (FacetCollector collector : collectors) {
+                        collector.categories.forEach((id, n) -> counts.categories().merge(id, n, Long::sum));
+                        collector.buckets.forEach((bucket, n) -> counts.priceBuckets().merge(bucket, n, Long::sum));
+                    }
+                    return counts;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    private int indexRange(long fromId, long toId) {
+        List<ProductTextProjection> rows = productRepository.findTextEntries(fromId, toId);
+        int products = 0;
+        int i = 0;
+        while (i < rows.size()) {
+            ProductTextProjection product = rows.get(i);
+            List<Long> categoryIds = new ArrayList<>();
+            for (; i < rows.size() && rows.get(i).getId().equals(product.getId()); i++) {
+                if (rows.get(i).getCategoryId() != null) {
+                    categoryIds.add(rows.get(i).getCategoryId());
+                }
+            }
+            Document document = document(product.getId(), product.getName(), product.getDescription(),
+                    product.getPrice(), categoryIds);
+            // skip products an event has written since the rebuild started
+            writtenDuringRebuild.compute(product.getId(), (id, written) -> {
+                if (written == null) {
+                    write(id, document);
+                }
+                return written;
+            });
+            products++;
+        }
+        return products;
+    }
+
+    /**
+     * Rewrites the products of a renamed or deleted category from their stored fields.
+     */
+    private void reindexCategory(Long categoryId) throws IOException {
+        searcherManager.maybeRefreshBlocking();
+        IndexSearcher searcher = acquire();
+        try {
+            Query query = new TermQuery(new Term(CATEGORY_ID, categoryId.toString()));
+            TopDocs top = searcher.search(query, Math.max(1, searcher.count(query)));
+            StoredFields stored = searcher.storedFields();
+            for (ScoreDoc hit : top.scoreDocs) {
+                Document previous = stored.document(hit.doc);
+                Long productId = Long.valueOf(previous.get(ID));
+                List<Long> categoryIds = Arrays.stream(previous.getValues(CATEGORY_ID))
+                        .map(Long::valueOf)
+                        .filter(categoryNames::containsKey)
+                        .toList();
+                String price = previous.get(PRICE);
+                apply(productId, document(productId, previous.get(NAME), previous.get(DESCRIPTION),
+                        price == null ? null : new BigDecimal(price), categoryIds));
+            }
+        } finally {
+            release(searcher);
+        }
+    }
+
+    private void apply(Long productId, Document document) {
+        if (rebuilding) {
+            writtenDuringRebuild.compute(productId, (id, written) -> {
+                write(id, document);
+                return Boolean.TRUE;
+            });
+        } else {
+            write(productId, document);
+        }
+    }
+
+    private void write(Long productId, Document document) {
+        Term id = new Term(ID, productId.toString());
+        try {
+            if (document == null) {
+                writer.deleteDocuments(id);
+            } else {
+                writer.updateDocument(id, document);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Document document(Long id, String name, String description, BigDecimal price, Collection<Long> categoryIds) {
+        Document document = new Document();
+        document.add(new StringField(ID, id.toString(), Field.Store.YES));
+        document.add(new NumericDocValuesField(ID_SORT, id));
+        document.add(new LongPoint(GENERATION, generation.get()));
+        if (name != null) {
+            document.add(new TextField(NAME, name, Field.Store.YES));
+            document.add(new SortedDocValuesField(NAME_SORT, new BytesRef(name.toLowerCase(Locale.ROOT))));
+        }
+        if (description != null) {
+            document.add(new TextField(DESCRIPTION, description, Field.Store.YES));
+        }
+        if (price != null) {
+            document.add(new StoredField(PRICE, price.toPlainString()));
+            document.add(new NumericDocValuesField(PRICE_CENTS, cents(price)));
+        }
+        for (Long categoryId : categoryIds) {
+            document.add(new StringField(CATEGORY_ID, categoryId.toString(), Field.Store.YES));
+            document.add(new SortedNumericDocValuesField(CATEGORY_ID_VALUES, categoryId));
+            String categoryName = categoryNames.get(categoryId);
+            if (categoryName != null) {
+                document.add(new TextField(CATEGORIES, categoryName, Field.Store.NO));
+            }
+        }
+        return document;
+    }
+
+    private Query query(String text) {
+        if (text == null || text.isBlank()) {
+            return new MatchAllDocsQuery();
+        }
+        List<String> words = analyze(text);
+        if (words.isEmpty()) {
+            return new MatchNoDocsQuery();
+        }
+        BooleanQuery.Builder all = new BooleanQuery.Builder();
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            BooleanQuery.Builder any = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(NAME, word)), NAME_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new BoostQuery(new TermQuery(new Term(CATEGORIES, word)), CATEGORY_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(DESCRIPTION, word)), BooleanClause.Occur.SHOULD);
+            if (i == words.size() - 1) {
+                // the last word may still be being typed
+                any.add(new BoostQuery(new PrefixQuery(new Term(NAME, word)), PREFIX_BOOST), BooleanClause.Occur.SHOULD)
+                        .add(new BoostQuery(new PrefixQuery(new Term(CATEGORIES, word)), PREFIX_BOOST), BooleanClause.Occur.SHOULD);
+            }
+            all.add(any.build(), BooleanClause.Occur.MUST);
+        }
+        return all.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> words = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(NAME, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                words.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+
+    private static org.apache.lucene.search.Sort sort(Sort sort) {
+        List<SortField> fields = new ArrayList<>();
+        sort.forEach(order -> fields.add(new SortField(
+                SORT_FIELDS.get(order.getProperty()), SORTABLE.get(order.getProperty()), order.isDescending())));
+        fields.add(new SortField(ID_SORT, SortField.Type.LONG));
+        return new org.apache.lucene.search.Sort(fields.toArray(SortField[]::new));
+    }
+
+    private static long cents(BigDecimal value) {
+        return value.movePointRight(2).setScale(0, RoundingMode.FLOOR).longValueExact();
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class FacetCollector extends SimpleCollector {
+
+        private final long bucketCents;
+        private final Map<Long, Long> categories = new HashMap<>();
+        private final Map<Long, Long> buckets = new HashMap<>();
+        private SortedNumericDocValues categoryIds;
+        private NumericDocValues prices;
+
+        private FacetCollector(long bucketCents) {
+            this.bucketCents = bucketCents;
+        }
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) throws IOException {
+            categoryIds = DocValues.getSortedNumeric(context.reader(), CATEGORY_ID_VALUES);
+            prices = DocValues.getNumeric(context.reader(), PRICE_CENTS);
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            if (categoryIds.advanceExact(doc)) {
+                for (int i = 0; i < categoryIds.docValueCount(); i++) {
+                    categories.merge(categoryIds.nextValue(), 1L, Long::sum);
+                }
+            }
+            Long bucket = prices.advanceExact(doc) ? Math.floorDiv(prices.longValue(), bucketCents) : null;
+            buckets.merge(bucket, 1L, Long::sum);
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+
+    }
+
+}
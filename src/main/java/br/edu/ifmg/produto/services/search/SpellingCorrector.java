@@ -0,0 +1,171 @@
+package br.edu.ifmg.produto.services.search;
+
+import br.edu.ifmg.produto.entities.Category;
+import br.edu.ifmg.produto.projections.ProductIndexProjection;
+import br.edu.ifmg.produto.repository.CategoryRepository;
+import br.edu.ifmg.produto.repository.ProductRepository;
+import br.edu.ifmg.produto.services.events.CategoryChangedEvent;
+import br.edu.ifmg.produto.services.events.ProductChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * "Did you mean" for product searches. The vocabulary is every word of the
+ * product and category names, counted by how many names use it, held in a
+ * {@link SymmetricDeleteDictionary}. Built at startup like
+ * {@link ProductSearchIndex} and kept in sync with committed writes.
+ */
+@Slf4j
+@Component
+public class SpellingCorrector {
+
+    private static final int MIN_WORD_LENGTH = 3;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private final SymmetricDeleteDictionary dictionary = new SymmetricDeleteDictionary();
+    private final Map<Long, List<String>> productWords = new HashMap<>();
+    private final Map<Long, List<String>> categoryWords = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Runnable> pending = new ArrayList<>();
+    private boolean rebuilding;
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        setRebuilding(true);
+        try {
+            List<Category> categories = categoryRepository.findAll();
+            Map<Long, String> names = new HashMap<>();
+            for (ProductIndexProjection row : productRepository.findIndexEntries()) {
+                names.put(row.getId(), row.getName());
+            }
+
+            lock.writeLock().lock();
+            try {
+                dictionary.clear();
+                productWords.clear();
+                categoryWords.clear();
+                names.forEach((id, name) -> put(productWords, id, name));
+                categories.forEach(c -> put(categoryWords, c.getId(), c.getName()));
+                pending.forEach(Runnable::run);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            setRebuilding(false);
+        }
+        log.info("Spelling corrector built with {} words", dictionary.size());
+    }
+
+    private void setRebuilding(boolean value) {
+        lock.writeLock().lock();
+        try {
+            rebuilding = value;
+            pending.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        apply(() -> {
+            remove(productWords, event.getProductId());
+            if (event.getType() == ProductChangedEvent.Type.SAVED) {
+                put(productWords, event.getProductId(), event.getName());
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        apply(() -> {
+            remove(categoryWords, event.getCategoryId());
+            if (event.getType() == CategoryChangedEvent.Type.SAVED) {
+                put(categoryWords, event.getCategoryId(), event.getName());
+            }
+        });
+    }
+
+    private void apply(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (rebuilding) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The query with each unknown word replaced by its closest known word, or
+     * empty when no word could be corrected. Words are compared folded, so the
+     * correction comes back in lower case without accents.
+     */
+    public Optional<String> correct(String query) {
+        List<String> words = words(query);
+        List<String> corrected = new ArrayList<>(words.size());
+        boolean changed = false;
+        lock.readLock().lock();
+        try {
+            for (String word : words) {
+                String replacement = word;
+                if (word.length() >= MIN_WORD_LENGTH && !isNumber(word)) {
+                    replacement = dictionary.lookup(word, maxDistance(word)).orElse(word);
+                }
+                changed |= !replacement.equals(word);
+                corrected.add(replacement);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return changed ? Optional.of(String.join(" ", corrected)) : Optional.empty();
+    }
+
+    private void put(Map<Long, List<String>> owners, Long id, String name) {
+        List<String> words = words(name).stream().distinct().toList();
+        if (!words.isEmpty()) {
+            owners.put(id, words);
+            words.forEach(word -> dictionary.add(word, 1));
+        }
+    }
+
+    private void remove(Map<Long, List<String>> owners, Long id) {
+        List<String> words = owners.remove(id);
+        if (words != null) {
+            words.forEach(word -> dictionary.remove(word, 1));
+        }
+    }
+
+    /**
+     * Short words get one edit: two would turn "mesa" into almost any four-letter word.
+     */
+    private static int maxDistance(String word) {
+        return word.length() <= 4 ? 1 : SymmetricDeleteDictionary.MAX_DISTANCE;
+    }
+
+    private static boolean isNumber(String word) {
+        return word.chars().allMatch(Character::isDigit);
+    }
+
+    private static List<String> words(String text) {
+        String normalized = PrefixTrie.normalize(text);
+        return normalized.isEmpty() ? List.of() : List.of(normalized.split(" "));
+    }
+
+}
@@ -0,0 +1,167 @@
+package br.edu.ifmg.produto.services.search;
+
+import java.util.*;
+
+/**
+ * Spelling dictionary using symmetric deletes: every word is stored under all
+ * the strings obtained by deleting up to {@value #MAX_DISTANCE} characters
+ * from its first {@value #PREFIX_LENGTH} characters. A misspelling generates
+ * its own deletes the same way, so candidates within the edit distance are
+ * found by hash lookups instead of comparing against the whole vocabulary;
+ * only those candidates are checked with a real edit distance.
+ * Not thread-safe: callers guard it with their own lock.
+ */
+public class SymmetricDeleteDictionary {
+
+    public static final int MAX_DISTANCE = 2;
+
+    private static final int PREFIX_LENGTH = 7;
+
+    private final Map<String, Long> counts = new HashMap<>();
+    private final Map<String, Set<String>> deletes = new HashMap<>();
+
+    /**
+     * Adds {@code count} occurrences of {@code word}.
+     */
+    public void add(String word, long count) {
+        if (counts.merge(word, count, Long::sum) == count) {
+            for (String delete : deletesOf(word)) {
+                deletes.computeIfAbsent(delete, d -> new HashSet<>(2)).add(word);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code count} occurrences of {@code word}; the word leaves the
+     * dictionary when none are left.
+     */
+    public void remove(String word, long count) {
+        Long left = counts.computeIfPresent(word, (w, c) -> c > count ? c - count : null);
+        if (left != null) {
+            return;
+        }
+        for (String delete : deletesOf(word)) {
+            Set<String> words = deletes.get(delete);
+            if (words != null && words.remove(word) && words.isEmpty()) {
+                deletes.remove(delete);
+            }
+        }
+    }
+
+    public void clear() {
+        counts.clear();
+        deletes.clear();
+    }
+
+    public boolean contains(String word) {
+        return counts.containsKey(word);
+    }
+
+    public int size() {
+        return counts.size();
+    }
+
+    /**
+     * The closest known word within {@code maxDistance} edits (insertions,
+     * deletions, substitutions and adjacent transpositions) of {@code word},
+     * the most frequent one on ties; {@code word} itself when it is known.
+     */
+    public Optional<String> lookup(String word, int maxDistance) {
+        if (counts.containsKey(word)) {
+            return Optional.of(word);
+        }
+        int limit = Math.min(maxDistance, MAX_DISTANCE);
+        String best = null;
+        int bestDistance = limit + 1;
+        long bestCount = 0;
+        Set<String> checked = new HashSet<>();
+        for (String delete : deletesOf(word, limit)) {
+            Set<String> words = deletes.get(delete);
+            if (words == null) {
+                continue;
+            }
+            for (String candidate : words) {
+                if (!checked.add(candidate) || Math.abs(candidate.length() - word.length()) > limit) {
+                    continue;
+                }
+                int distance = distance(word, candidate, bestDistance + 1);
+                if (distance > limit) {
+                    continue;
+                }
+                long count = counts.get(candidate);
+                if (distance < bestDistance
+                        || distance == bestDistance && (count > bestCount
+                        || count == bestCount && candidate.compareTo(best) < 0)) {
+                    best = candidate;
+                    bestDistance = distance;
+                    bestCount = count;
+                }
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private static Set<String> deletesOf(String word) {
+        return deletesOf(word, MAX_DISTANCE);
+    }
+
+    /**
+     * The word's prefix and every string reachable from it by up to {@code distance} deletions.
+     */
+    private static Set<String> deletesOf(String word, int distance) {
+        String prefix = word.length() > PREFIX_LENGTH ? word.substring(0, PREFIX_LENGTH) : word;
+        Set<String> result = new HashSet<>();
+        result.add(prefix);
+        List<String> level = List.of(prefix);
+        for (int d = 0; d < distance; d++) {
+            List<String> next = new ArrayList<>();
+            for (String s : level) {
+                for (int i = 0; i < s.length(); i++) {
+                    String delete = s.substring(0, i) + s.substring(i + 1);
+                    if (result.add(delete)) {
+                        next.add(delete);
+                    }
+                }
+            }
+            level = next;
+        }
+        return result;
+    }
+
+    /**
+     * Optimal string alignment distance, or {@code cutoff} once it is certain
+     * to reach it.
+     */
+    static int distance(String a, String b, int cutoff) {
+        int n = a.length();
+        int m = b.length();
+        int[] previous2 = new int[m + 1];
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= m; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin >= cutoff) {
+                return cutoff;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[m], cutoff);
+    }
+
+}
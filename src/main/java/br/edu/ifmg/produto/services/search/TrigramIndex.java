@@ -0,0 +1,103 @@
+package br.edu.ifmg.produto.services.search;
+
+import br.edu.ifmg.produto.util.TextNormalizer;
+
+import java.util.*;
+
+/**
+ * Substring index over short texts (product and category names). Each text is
+ * split into overlapping three-character grams; a query only verifies the
+ * documents that contain every gram of the query, instead of scanning them all.
+ * Not thread-safe: callers guard it with their own lock.
+ */
+public class TrigramIndex {
+
+    private static final int GRAM = 3;
+
+    private final Map<Long, String> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    public void put(Long id, String text) {
+        remove(id);
+        String normalized = normalize(text);
+        documents.put(id, normalized);
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+        }
+    }
+
+    public void remove(Long id) {
+        String previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        documents.clear();
+        postings.clear();
+    }
+
+    public Set<Long> search(String query) {
+        String normalized = normalize(query);
+
+        if (normalized.length() < GRAM) {
+            Set<Long> result = new HashSet<>();
+            documents.forEach((id, text) -> {
+                if (text.contains(normalized)) result.add(id);
+            });
+            return result;
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(normalized)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>();
+        for (Long id : lists.getFirst()) {
+            if (containsInAll(lists, id) && documents.get(id).contains(normalized)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : TextNormalizer.fold(text);
+    }
+
+    private static boolean containsInAll(List<Set<Long>> lists, Long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) return false;
+        }
+        return true;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+}
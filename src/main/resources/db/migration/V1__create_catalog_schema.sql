@@ -0,0 +1,125 @@
+-- Esquema inicial, equivalente ao que o Hibernate gerava com ddl-auto=create
+
+create sequence tb_address_seq start with 1 increment by 50;
+create sequence tb_cart_item_seq start with 1 increment by 50;
+create sequence tb_cart_seq start with 1 increment by 50;
+create sequence tb_category_seq start with 1 increment by 50;
+create sequence tb_password_recover_seq start with 1 increment by 50;
+create sequence tb_product_seq start with 1 increment by 50;
+create sequence tb_role_seq start with 1 increment by 50;
+create sequence tb_store_seq start with 1 increment by 50;
+create sequence tb_user_seq start with 1 increment by 50;
+
+create table tb_role (
+    id bigint not null,
+    authority varchar(255),
+    constraint pk_role primary key (id)
+);
+
+create table tb_user (
+    id bigint not null,
+    first_name varchar(255),
+    last_name varchar(255),
+    email varchar(255),
+    password varchar(255),
+    phone varchar(255),
+    constraint pk_user primary key (id),
+    constraint uk_user_email unique (email)
+);
+
+create table tb_user_role (
+    user_id bigint not null,
+    role_id bigint not null,
+    constraint pk_user_role primary key (user_id, role_id),
+    constraint fk_user_role_user foreign key (user_id) references tb_user (id),
+    constraint fk_user_role_role foreign key (role_id) references tb_role (id)
+);
+
+create table tb_address (
+    id bigint not null,
+    street varchar(255),
+    number varchar(255),
+    complement varchar(255),
+    city varchar(255),
+    state varchar(255),
+    zip_code varchar(255),
+    main boolean not null,
+    user_id bigint,
+    constraint pk_address primary key (id),
+    constraint fk_address_user foreign key (user_id) references tb_user (id)
+);
+
+create table tb_category (
+    id bigint not null,
+    name varchar(255),
+    name_normalized varchar(255),
+    image_url varchar(255),
+    created_at timestamp(6) with time zone,
+    update_at timestamp(6) with time zone,
+    constraint pk_category primary key (id)
+);
+
+create table tb_store (
+    id bigint not null,
+    rating float(53),
+    delivery_time integer,
+    user_id bigint,
+    main_category_id bigint,
+    -- Mantido pelas insercoes e exclusoes de produtos, para a vitrine nao contar o catalogo de cada loja
+    product_count bigint default 0 not null,
+    constraint pk_store primary key (id),
+    constraint uk_store_user unique (user_id),
+    constraint fk_store_user foreign key (user_id) references tb_user (id),
+    constraint fk_store_main_category foreign key (main_category_id) references tb_category (id)
+);
+
+create table tb_product (
+    id bigint not null,
+    name varchar(255),
+    name_normalized varchar(255),
+    description TEXT,
+    price numeric(38,2),
+    image_url varchar(255),
+    created_at timestamp(6) with time zone,
+    updated_at timestamp(6) with time zone,
+    store_id bigint not null,
+    constraint pk_product primary key (id),
+    constraint fk_product_store foreign key (store_id) references tb_store (id)
+);
+
+-- A chave primaria comeca por product_id: carrega as categorias de cada produto
+create table tb_product_category (
+    product_id bigint not null,
+    category_id bigint not null,
+    constraint pk_product_category primary key (product_id, category_id),
+    constraint fk_product_category_product foreign key (product_id) references tb_product (id),
+    constraint fk_product_category_category foreign key (category_id) references tb_category (id)
+);
+
+create table tb_cart (
+    id bigint not null,
+    total numeric(38,2),
+    user_id bigint not null,
+    constraint pk_cart primary key (id),
+    constraint uk_cart_user unique (user_id),
+    constraint fk_cart_user foreign key (user_id) references tb_user (id)
+);
+
+create table tb_cart_item (
+    id bigint not null,
+    cart_id bigint not null,
+    product_id bigint not null,
+    quantity integer not null,
+    price numeric(38,2) not null,
+    constraint pk_cart_item primary key (id),
+    constraint fk_cart_item_cart foreign key (cart_id) references tb_cart (id),
+    constraint fk_cart_item_product foreign key (product_id) references tb_product (id)
+);
+
+create table tb_password_recover (
+    id bigint not null,
+    token varchar(255) not null,
+    email varchar(255) not null,
+    expiration timestamp(6) with time zone not null,
+    constraint pk_password_recover primary key (id)
+);
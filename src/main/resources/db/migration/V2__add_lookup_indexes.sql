@@ -0,0 +1,28 @@
+-- Indices das consultas dos repositorios; as colunas unicas (tb_user.email,
+-- tb_cart.user_id, tb_store.user_id) ja sao indexadas pelas suas constraints
+
+-- Paginacao por cursor (ProductCursor): ordem e busca pela chave e pelo id
+create index ix_product_name_id on tb_product (name, id);
+create index ix_product_price_id on tb_product (price, id);
+create index ix_product_created_at_id on tb_product (created_at, id);
+
+-- Produtos de uma loja, em ordem de id (exportacao, previa das lojas, contagem por loja)
+create index ix_product_store on tb_product (store_id, id);
+
+-- Produtos de uma categoria; a chave primaria cobre o sentido produto -> categorias
+create index ix_product_category_category on tb_product_category (category_id, product_id);
+
+-- Ranking das lojas (StoreRepository.findTopSummaries)
+create index ix_store_rating on tb_store (rating desc, id);
+create index ix_store_main_category on tb_store (main_category_id);
+
+-- Carrinho e itens
+create index ix_cart_item_cart on tb_cart_item (cart_id);
+create index ix_cart_item_product on tb_cart_item (product_id);
+
+-- Enderecos e papeis de um usuario
+create index ix_address_user on tb_address (user_id);
+create index ix_user_role_role on tb_user_role (role_id);
+
+-- Validacao do token de recuperacao de senha (PasswordRecoverRepository.searchValidToken)
+create index ix_password_recover_token on tb_password_recover (token, expiration);
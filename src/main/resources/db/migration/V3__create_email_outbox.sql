@@ -0,0 +1,21 @@
+-- Emails gravados na mesma transacao da operacao que os gera e enviados depois, em lotes, pelo EmailOutboxDispatcher
+
+create sequence tb_email_outbox_seq start with 1 increment by 50;
+
+create table tb_email_outbox (
+    id bigint not null,
+    recipient varchar(255) not null,
+    subject varchar(255) not null,
+    -- Apagado no envio (pode conter o token de recuperacao de senha)
+    body text,
+    status varchar(16) not null,
+    attempts integer not null,
+    next_attempt_at timestamp(6) with time zone not null,
+    created_at timestamp(6) with time zone not null,
+    sent_at timestamp(6) with time zone,
+    last_error varchar(1000),
+    constraint pk_email_outbox primary key (id)
+);
+
+-- Proximos envios devidos (EmailOutboxRepository.findDue)
+create index ix_email_outbox_due on tb_email_outbox (status, next_attempt_at);
@@ -0,0 +1,133 @@
+-- Categorias existentes com imagens
+INSERT INTO tb_category (id, name, image_url, created_at) VALUES (1, 'Livros', 'https://cdn-icons-png.flaticon.com/512/29/29302.png', NOW());
+INSERT INTO tb_category (id, name, image_url, created_at) VALUES (2, 'Eletrônicos', 'https://cdn-icons-png.flaticon.com/512/3556/3556556.png', NOW());
+INSERT INTO tb_category (id, name, image_url, created_at) VALUES (3, 'Computadores', 'https://cdn-icons-png.flaticon.com/512/31/31353.png', NOW());
+INSERT INTO tb_category (id, name, image_url, created_at) VALUES (4, 'Bebidas', 'https://cdn-icons-png.flaticon.com/512/6032/6032959.png', NOW());
+INSERT INTO tb_category (id, name, image_url, created_at) VALUES (5, 'Roupas', 'https://cdn-icons-png.flaticon.com/512/2789/2789678.png', NOW());
+INSERT INTO tb_category (id, name, image_url, created_at) VALUES (6, 'Farmácia', 'https://cdn-icons-png.flaticon.com/512/7695/7695989.png', NOW());
+
+
+
+INSERT INTO tb_user (id, first_name, last_name, email, password, phone) VALUES (1, 'Alex', 'Brown', 'alex@gmail.com', '$2a$10$eACCYoNOHEqXve8aIWT8Nu3PkMXWBaOxJ9aORUYzfMQCbVBIhZ8tG', '99999991');
+INSERT INTO tb_user (id, first_name, last_name, email, password, phone) VALUES (2, 'Maria', 'Green', 'maria@gmail.com', '$2a$10$eACCYoNOHEqXve8aIWT8Nu3PkMXWBaOxJ9aORUYzfMQCbVBIhZ8tG', '99999992');
+INSERT INTO tb_user (id, first_name, last_name, email, password, phone) VALUES (3, 'Carlos', 'Silva', 'carlos@gmail.com', '$2a$10$eACCYoNOHEqXve8aIWT8Nu3PkMXWBaOxJ9aORUYzfMQCbVBIhZ8tG', '99999993');
+INSERT INTO tb_user (id, first_name, last_name, email, password, phone) VALUES (4, 'Fernanda', 'Souza', 'fernanda@gmail.com', '$2a$10$eACCYoNOHEqXve8aIWT8Nu3PkMXWBaOxJ9aORUYzfMQCbVBIhZ8tG', '99999994');
+INSERT INTO tb_user (id, first_name, last_name, email, password, phone) VALUES (5, 'João', 'Pereira', 'joao@gmail.com', '$2a$10$eACCYoNOHEqXve8aIWT8Nu3PkMXWBaOxJ9aORUYzfMQCbVBIhZ8tG', '99999995');
+INSERT INTO tb_user (id, first_name, last_name, email, password, phone) VALUES (6, 'Aline', 'Eduarda', 'aline@gmail.com', '$2a$10$eACCYoNOHEqXve8aIWT8Nu3PkMXWBaOxJ9aORUYzfMQCbVBIhZ8tG', '99999996');
+INSERT INTO tb_user (id, first_name, last_name, email, password, phone) VALUES (7, 'Bruno', 'Lima', 'bruno@gmail.com', '$2a$10$eACCYoNOHEqXve8aIWT8Nu3PkMXWBaOxJ9aORUYzfMQCbVBIhZ8tG', '99999997');
+
+
+INSERT INTO tb_address (id, street, number, complement, city, state, zip_code, main, user_id) VALUES (1, 'Rua das Flores', '123', 'Apto 201', 'Belo Horizonte', 'MG', '30100-000', true, 1);
+INSERT INTO tb_address (id, street, number, complement, city, state, zip_code, main, user_id) VALUES (2, 'Avenida Brasil', '456', 'Casa', 'Contagem', 'MG', '32000-111', true, 2);
+INSERT INTO tb_address (id, street, number, complement, city, state, zip_code, main, user_id) VALUES (3, 'Rua Verde', '78', 'Apto 301', 'Nova Lima', 'MG', '34000-222', true, 3);
+INSERT INTO tb_address (id, street, number, complement, city, state, zip_code, main, user_id) VALUES (4, 'Rua Azul', '45', 'Bloco B', 'Betim', 'MG', '32500-333', true, 4);
+INSERT INTO tb_address (id, street, number, complement, city, state, zip_code, main, user_id) VALUES (5, 'Rua das Acácias', '90', '', 'Ipatinga', 'MG', '35160-000', true, 5);
+INSERT INTO tb_address (id, street, number, complement, city, state, zip_code, main, user_id) VALUES (6, 'Avenida das Palmeiras', '1200', 'Casa', 'Uberlândia', 'MG', '38400-888', true, 6);
+INSERT INTO tb_address (id, street, number, complement, city, state, zip_code, main, user_id) VALUES (7, 'Rua do Sol', '77', 'Apto 802', 'Divinópolis', 'MG', '35500-777', true, 7);
+
+
+
+INSERT INTO tb_role (id, authority) VALUES (1, 'ROLE_ADMIN');
+INSERT INTO tb_role (id, authority) VALUES (2, 'ROLE_SELLER');
+INSERT INTO tb_role (id, authority) VALUES (3, 'ROLE_CLIENT');
+
+
+INSERT INTO tb_user_role (user_id, role_id) VALUES (1, 1);
+INSERT INTO tb_user_role (user_id, role_id) VALUES (2, 2);
+INSERT INTO tb_user_role (user_id, role_id) VALUES (3, 2);
+INSERT INTO tb_user_role (user_id, role_id) VALUES (4, 2);
+INSERT INTO tb_user_role (user_id, role_id) VALUES (5, 2);
+INSERT INTO tb_user_role (user_id, role_id) VALUES (6, 2);
+INSERT INTO tb_user_role (user_id, role_id) VALUES (7, 3);
+
+
+-- Loja do usuário 1 - (Alex) - categoria 2 (Eletrônicos)
+INSERT INTO tb_store (id, rating, delivery_time, user_id, main_category_id) VALUES (1, 4.4, 60, 1, 2);
+
+-- Loja do usuário 2 (Maria) - categoria 1 (Livros)
+INSERT INTO tb_store (id, rating, delivery_time, user_id, main_category_id) VALUES (2, 4.2, 30, 2, 1);
+
+-- Loja do usuário 3 (Carlos) - categoria 4 (Bebidas)
+INSERT INTO tb_store (id, rating, delivery_time, user_id, main_category_id) VALUES (3, 3.8, 25, 3, 4);
+
+-- Loja do usuário 4 (Fernanda) - categoria 5 (Roupas)
+INSERT INTO tb_store (id, rating, delivery_time, user_id, main_category_id) VALUES (4, 4.5, 50, 4, 5);
+
+-- Loja do usuário 5 (João) - categoria 3 (Computadores)
+INSERT INTO tb_store (id, rating, delivery_time, user_id, main_category_id) VALUES (5, 4.0, 40, 5, 3);
+
+-- Loja do usuário 6 (Aline) - categoria 6 (Farmácia)
+INSERT INTO tb_store (id, rating, delivery_time, user_id, main_category_id) VALUES (6, 4.3, 20, 6, 6);
+
+
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (1, 'The Lord of the Rings', 90.5, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/1-big.jpg', 1);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (2, 'Smart TV', 2190.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/2-big.jpg', 1);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (3, 'Macbook Pro', 1250.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/3-big.jpg', 1);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (4, 'PC Gamer', 1200.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/4-big.jpg', 1);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (5, 'Rails for Dummies', 100.99, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/5-big.jpg', 2);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (6, 'PC Gamer Ex', 1350.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/6-big.jpg', 2);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (7, 'PC Gamer X', 1350.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/7-big.jpg', 2);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (8, 'PC Gamer Alfa', 1850.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/8-big.jpg', 2);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (9, 'PC Gamer Tera', 1950.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/9-big.jpg', 3);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (10, 'PC Gamer Y', 1700.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/10-big.jpg', 3);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (11, 'PC Gamer Nitro', 1450.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/11-big.jpg', 3);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (12, 'PC Gamer Card', 1850.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/12-big.jpg', 3);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (13, 'PC Gamer Plus', 1350.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/13-big.jpg', 4);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (14, 'PC Gamer Hera', 2250.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/14-big.jpg', 4);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (15, 'PC Gamer Weed', 2200.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/15-big.jpg', 4);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (16, 'PC Gamer Max', 2340.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/16-big.jpg', 4);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (17, 'PC Gamer Turbo', 1280.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/17-big.jpg', 5);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (18, 'PC Gamer Hot', 1450.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/18-big.jpg', 5);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (19, 'PC Gamer Ez', 1750.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/19-big.jpg', 5);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (20, 'PC Gamer Tr', 1650.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/20-big.jpg', 5);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (21, 'PC Gamer Tx', 1680.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/21-big.jpg', 2);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (22, 'PC Gamer Er', 1850.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/22-big.jpg', 6);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (23, 'PC Gamer Min', 2250.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/23-big.jpg', 6);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (24, 'PC Gamer Boo', 2350.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/24-big.jpg', 6);
+INSERT INTO tb_product (id, name, price, created_at, updated_at, description, image_url, store_id) VALUES (25, 'PC Gamer Foo', 4170.0, TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', TIMESTAMP WITH TIME ZONE '2020-07-14T10:00:00Z', 'Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum.', 'https://raw.githubusercontent.com/devsuperior/dscatalog-resources/master/backend/img/25-big.jpg', 6);
+
+
+INSERT INTO tb_product_category (product_id, category_id) VALUES (1, 1);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (2, 2);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (3, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (4, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (5, 1);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (6, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (7, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (8, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (9, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (10, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (11, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (12, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (13, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (14, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (15, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (16, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (17, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (18, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (19, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (20, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (21, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (22, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (23, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (24, 3);
+INSERT INTO tb_product_category (product_id, category_id) VALUES (25, 3);
+
+
+INSERT INTO tb_cart (id, user_id, total) VALUES (1, 7, 0.0);
+
+-- Ids acima foram fixados; as sequencias continuam a partir do proximo valor livre
+ALTER SEQUENCE tb_category_seq RESTART WITH 7;
+ALTER SEQUENCE tb_user_seq RESTART WITH 8;
+ALTER SEQUENCE tb_address_seq RESTART WITH 8;
+ALTER SEQUENCE tb_role_seq RESTART WITH 4;
+ALTER SEQUENCE tb_store_seq RESTART WITH 7;
+ALTER SEQUENCE tb_product_seq RESTART WITH 26;
+ALTER SEQUENCE tb_cart_seq RESTART WITH 2;
+
+-- Total de produtos por loja, mantido pela aplicacao a partir daqui
+UPDATE tb_store s SET product_count = (SELECT COUNT(*) FROM tb_product p WHERE p.store_id = s.id);
+
+-- Chaves de busca sem acento e em minusculas (mesma regra de TextNormalizer.fold)
+UPDATE tb_category SET name_normalized = LOWER(TRANSLATE(name, 'ÁÀÂÃÄáàâãäÉÈÊËéèêëÍÌÎÏíìîïÓÒÔÕÖóòôõöÚÙÛÜúùûüÇç', 'AAAAAaaaaaEEEEeeeeIIIIiiiiOOOOOoooooUUUUuuuuCc'));
+UPDATE tb_product SET name_normalized = LOWER(TRANSLATE(name, 'ÁÀÂÃÄáàâãäÉÈÊËéèêëÍÌÎÏíìîïÓÒÔÕÖóòôõöÚÙÛÜúùûüÇç', 'AAAAAaaaaaEEEEeeeeIIIIiiiiOOOOOoooooUUUUuuuuCc'));
@@ -0,0 +1,130 @@
+package br.edu.ifmg.produto.benchmarks;
+
+import br.edu.ifmg.produto.ProdutoApplication;
+import br.edu.ifmg.produto.entities.Cart;
+import br.edu.ifmg.produto.entities.CartItem;
+import br.edu.ifmg.produto.entities.Product;
+import br.edu.ifmg.produto.repository.CartRepository;
+import br.edu.ifmg.produto.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+/**
+ * Counts the JDBC round trips made when a cart with {@value #ITEMS} new items
+ * is flushed, with JDBC batching disabled (what IDENTITY ids forced on every
+ * insert) and with the configured batch size. Every {@code execute*} call on a
+ * statement, including {@code executeBatch}, counts as one round trip.
+ */
+public class CartSaveRoundTripBenchmark {
+
+    private static final int ITEMS = 30;
+    private static final int ROUNDS = 10;
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public static void main(String[] args) {
+        double unbatched = run("0");
+        double batched = run("50");
+        System.out.printf("Round trips per cart save of %d items: %.1f without batching, %.1f with batching%n",
+                ITEMS, unbatched, batched);
+    }
+
+    private static double run(String batchSize) {
+        AtomicLong roundTrips = new AtomicLong();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProdutoApplication.class)
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                    @Override
+                    public Object postProcessAfterInitialization(Object bean, String beanName) {
+                        return bean instanceof DataSource dataSource ? counting(dataSource, roundTrips) : bean;
+                    }
+                }))
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:roundtrips" + batchSize,
+                        "--spring.datasource.replica.url=jdbc:h2:mem:roundtrips" + batchSize,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize)) {
+
+            EntityManagerFactory emf = context.getBean(EntityManagerFactory.class);
+            TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+            CartRepository cartRepository = context.getBean(CartRepository.class);
+            ProductRepository productRepository = context.getBean(ProductRepository.class);
+
+            long total = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                total += transactionTemplate.execute(status -> {
+                    Cart cart = cartRepository.findByUserId(7L).orElseThrow();
+                    List<Product> products = productRepository.findAll();
+                    for (int i = 0; i < ITEMS; i++) {
+                        CartItem item = new CartItem();
+                        item.setCart(cart);
+                        item.setProduct(products.get(i % products.size()));
+                        item.setQuantity(1);
+                        item.setPrice(item.getProduct().getPrice());
+                        cart.getItems().add(item);
+                    }
+                    cart.setTotal(cart.getTotal().add(BigDecimal.ONE));
+
+                    long before = roundTrips.get();
+                    cartRepository.save(cart);
+                    EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(emf);
+                    entityManager.flush();
+                    long statements = roundTrips.get() - before;
+
+                    status.setRollbackOnly();
+                    return statements;
+                });
+            }
+            return (double) total / ROUNDS;
+        }
+    }
+
+    private static DataSource counting(DataSource dataSource, AtomicLong roundTrips) {
+        return proxy(DataSource.class, dataSource, (method, result) ->
+                method.getName().equals("getConnection") ? countingConnection((Connection) result, roundTrips) : result);
+    }
+
+    private static Connection countingConnection(Connection connection, AtomicLong roundTrips) {
+        return proxy(Connection.class, connection, (method, result) ->
+                result instanceof PreparedStatement statement ? countingStatement(statement, roundTrips) : result);
+    }
+
+    private static PreparedStatement countingStatement(PreparedStatement statement, AtomicLong roundTrips) {
+        return proxy(PreparedStatement.class, statement, (method, result) -> {
+            if (EXECUTE_METHODS.contains(method.getName())) {
+                roundTrips.incrementAndGet();
+            }
+            return result;
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, BiFunction<Method, Object, Object> afterCall) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, method, args) -> {
+            try {
+                return afterCall.apply(method, method.invoke(target, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+        return type.cast(proxy);
+    }
+
+}
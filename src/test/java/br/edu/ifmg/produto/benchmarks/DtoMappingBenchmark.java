@@ -0,0 +1,213 @@
+package br.edu.ifmg.produto.benchmarks;
+
+import br.edu.ifmg.produto.dtos.CartDTO;
+import br.edu.ifmg.produto.dtos.ProductDTO;
+import br.edu.ifmg.produto.dtos.ProductListDTO;
+import br.edu.ifmg.produto.dtos.StoreDTO;
+import br.edu.ifmg.produto.entities.*;
+import br.edu.ifmg.produto.resources.links.LinkFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning one listing page of entities into DTOs and of writing those
+ * DTOs as HAL JSON, the way the resources answer, at the page sizes clients
+ * ask for. The entities are fully loaded, so no persistence cost is included.
+ * Run with {@code mvn -Pbenchmarks test-compile exec:exec}, which adds the GC
+ * profiler: {@code gc.alloc.rate.norm} is the bytes allocated per page.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"20", "50", "100"})
+    private int pageSize;
+
+    private final LinkFactory linkFactory = new LinkFactory();
+
+    private ObjectMapper objectMapper;
+    private List<Product> products;
+    private Cart cart;
+    private Store store;
+
+    private List<ProductDTO> productDtos;
+    private List<ProductListDTO> productListDtos;
+    private CartDTO cartDto;
+    private StoreDTO storeDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = halObjectMapper();
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest("GET", "/product")));
+
+        List<Category> categories = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            Category category = new Category();
+            category.setId(id);
+            category.setName("Categoria " + id);
+            category.setImageUrl("https://img.example.com/c/" + id + ".png");
+            category.setCreatedAt(Instant.now());
+            categories.add(category);
+        }
+
+        User owner = new User();
+        owner.setId(1L);
+        owner.setFirstName("Maria");
+        owner.setLastName("Green");
+        owner.setEmail("maria@gmail.com");
+        owner.setPhone("99999992");
+        owner.getRoles().add(new Role(2L, "ROLE_SELLER"));
+
+        store = new Store();
+        store.setId(1L);
+        store.setRating(4.5);
+        store.setDeliveryTime(30);
+        store.setOwner(owner);
+        store.setMainCategory(categories.get(0));
+
+        products = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            Product product = new Product();
+            product.setId(id);
+            product.setName("PC Gamer " + id);
+            product.setDescription("Computador com processador de 8 núcleos, 16 GB de memória, SSD de 512 GB "
+                    + "e placa de vídeo dedicada, pronto para jogos e trabalho. Garantia de 12 meses.");
+            product.setPrice(BigDecimal.valueOf(1000 + id * 37, 2));
+            product.setImageUrl("https://img.example.com/p/" + id + ".jpg");
+            product.setCreatedAt(Instant.now());
+            product.setStore(store);
+            product.getCategories().add(categories.get((int) (id % categories.size())));
+            if (id % 3 == 0) {
+                product.getCategories().add(categories.get((int) ((id + 1) % categories.size())));
+            }
+            products.add(product);
+        }
+        store.setProducts(products);
+
+        User client = new User();
+        client.setId(7L);
+        cart = new Cart();
+        cart.setId(1L);
+        cart.setUser(client);
+        cart.setTotal(BigDecimal.ZERO);
+        for (int i = 0; i < pageSize; i++) {
+            CartItem item = new CartItem();
+            item.setId((long) i + 1);
+            item.setCart(cart);
+            item.setProduct(products.get(i));
+            item.setQuantity(1 + i % 3);
+            item.setPrice(products.get(i).getPrice());
+            cart.getItems().add(item);
+        }
+
+        productDtos = mapProducts();
+        productListDtos = mapProductList();
+        cartDto = mapCart();
+        storeDto = mapStore();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public List<ProductDTO> mapProducts() {
+        List<ProductDTO> page = new ArrayList<>(products.size());
+        for (Product product : products) {
+            ProductDTO dto = new ProductDTO(product);
+            linkFactory.addProductLinks(dto);
+            page.add(dto);
+        }
+        return page;
+    }
+
+    @Benchmark
+    public List<ProductListDTO> mapProductList() {
+        List<ProductListDTO> page = new ArrayList<>(products.size());
+        for (Product product : products) {
+            page.add(new ProductListDTO(product));
+        }
+        return page;
+    }
+
+    @Benchmark
+    public CartDTO mapCart() {
+        return new CartDTO(cart);
+    }
+
+    @Benchmark
+    public StoreDTO mapStore() {
+        return new StoreDTO(store);
+    }
+
+    @Benchmark
+    public byte[] serializeProducts() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(productDtos);
+    }
+
+    @Benchmark
+    public byte[] serializeProductList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(productListDtos);
+    }
+
+    @Benchmark
+    public byte[] serializeCart() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(cartDto);
+    }
+
+    @Benchmark
+    public byte[] serializeStore() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(storeDto);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeProducts() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapProducts());
+    }
+
+    /**
+     * The HAL rendering Spring HATEOAS applies to application/json responses.
+     */
+    private static ObjectMapper halObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.findAndRegisterModules();
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.registerModule(new Jackson2HalModule());
+        mapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new EvoInflectorLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+        return mapper;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(DtoMappingBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,89 @@
+package br.edu.ifmg.produto.benchmarks;
+
+import br.edu.ifmg.produto.dtos.ProductDTO;
+import br.edu.ifmg.produto.resources.ProductResource;
+import br.edu.ifmg.produto.resources.links.LinkFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Per-element cost of adding the product links of one listing page, comparing
+ * the former {@code linkTo(methodOn(...))} calls with {@link LinkFactory}.
+ * Each invocation simulates one request rendering a page of {@value #PAGE_SIZE} products.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkBuildingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final LinkFactory linkFactory = new LinkFactory();
+
+    private MockHttpServletRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        request = new MockHttpServletRequest("GET", "/product");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public List<ProductDTO> methodOnLinks() {
+        List<ProductDTO> page = newRequestPage();
+        for (ProductDTO dto : page) {
+            dto.add(linkTo(methodOn(ProductResource.class).findById(dto.getId())).withSelfRel());
+            dto.add(linkTo(methodOn(ProductResource.class).findAll(null, Pageable.unpaged())).withRel("all-products"));
+            dto.add(linkTo(methodOn(ProductResource.class).delete(dto.getId())).withRel("delete"));
+            dto.add(linkTo(methodOn(ProductResource.class).update(dto.getId(), dto)).withRel("update"));
+        }
+        return page;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE_SIZE)
+    public List<ProductDTO> linkFactoryLinks() {
+        List<ProductDTO> page = newRequestPage();
+        page.forEach(linkFactory::addProductLinks);
+        return page;
+    }
+
+    private List<ProductDTO> newRequestPage() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        List<ProductDTO> page = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            ProductDTO dto = new ProductDTO();
+            dto.setId(id);
+            dto.setName("Product " + id);
+            dto.setPrice(BigDecimal.TEN);
+            page.add(dto);
+        }
+        return page;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(LinkBuildingBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+}
@@ -0,0 +1,101 @@
+package br.edu.ifmg.produto.config;
+
+import br.edu.ifmg.produto.dtos.CategoryDTO;
+import br.edu.ifmg.produto.dtos.ProductDTO;
+import br.edu.ifmg.produto.services.CategoryService;
+import br.edu.ifmg.produto.services.ProductService;
+import br.edu.ifmg.produto.services.cache.CategoryCache;
+import br.edu.ifmg.produto.services.cache.ProductCache;
+import br.edu.ifmg.produto.services.events.CategoryChangedEvent;
+import br.edu.ifmg.produto.services.events.ProductChangedEvent;
+import br.edu.ifmg.produto.services.pagination.CountMode;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ReadWriteRoutingIT {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    public void readOnlyTransactionShouldUseReplicaPool() {
+        readOnly.executeWithoutResult(status -> {
+            productService.findAll(PageRequest.of(0, 5), CountMode.NONE);
+            Assertions.assertEquals(1, replicaDataSource.getHikariPoolMXBean().getActiveConnections());
+        });
+        Assertions.assertEquals(0, replicaDataSource.getHikariPoolMXBean().getActiveConnections());
+    }
+
+    @Test
+    public void productCacheFillInsideReadOnlyTransactionShouldReadFromPrimary() {
+        productCache.onProductChanged(ProductChangedEvent.deleted(1L));
+
+        readOnly.executeWithoutResult(status -> {
+            ProductDTO dto = productService.findById(1L);
+            Assertions.assertEquals(1L, dto.getId());
+            Assertions.assertEquals(0, replicaDataSource.getHikariPoolMXBean().getActiveConnections());
+        });
+    }
+
+    @Test
+    public void categoryCacheFillInsideReadOnlyTransactionShouldReadFromPrimary() {
+        categoryCache.onCategoryChanged(CategoryChangedEvent.deleted(1L));
+
+        readOnly.executeWithoutResult(status -> {
+            CategoryDTO dto = categoryService.findById(1L);
+            Assertions.assertEquals(1L, dto.getId());
+            Assertions.assertEquals(0, replicaDataSource.getHikariPoolMXBean().getActiveConnections());
+        });
+    }
+
+    @Test
+    public void readOnlyMethodInsideWriteTransactionShouldStayOnPrimary() {
+        readWrite.executeWithoutResult(status -> {
+            productService.findById(1L);
+            Assertions.assertTrue(primaryDataSource.getHikariPoolMXBean().getActiveConnections() > 0);
+            Assertions.assertEquals(0, replicaDataSource.getHikariPoolMXBean().getActiveConnections());
+        });
+    }
+
+}
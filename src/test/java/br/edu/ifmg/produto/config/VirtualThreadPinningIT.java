@@ -0,0 +1,61 @@
+package br.edu.ifmg.produto.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "virtual-threads.pinning.threshold=10ms"
+})
+public class VirtualThreadPinningIT {
+
+    private final Object monitor = new Object();
+
+    @Autowired
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Test
+    public void asyncTasksShouldRunOnVirtualThreads() throws Exception {
+        Boolean virtual = applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get();
+        Assertions.assertTrue(virtual);
+    }
+
+    @Test
+    public void pinnedVirtualThreadShouldBeReportedWithItsLocation() throws Exception {
+        Thread.ofVirtual().start(this::sleepHoldingMonitor).join();
+
+        Timer pinned = meterRegistry.get("jvm.threads.virtual.pinned").timer();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pinned.count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        Assertions.assertTrue(pinned.count() > 0);
+        Assertions.assertTrue(pinningMonitor.pinnedLocations().keySet().stream()
+                .anyMatch(location -> location.contains("sleepHoldingMonitor")));
+    }
+
+    private void sleepHoldingMonitor() {
+        synchronized (monitor) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package br.edu.ifmg.produto.load;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of one endpoint, in nanoseconds. Each client keeps its own
+ * instances and they are merged once the run is over, so recording needs no
+ * synchronization.
+ */
+class LatencySamples {
+
+    private long[] values = new long[1024];
+    private int size;
+    private int errors;
+
+    void record(long nanos, boolean error) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = nanos;
+        if (error) {
+            errors++;
+        }
+    }
+
+    void addAll(LatencySamples other) {
+        if (size + other.size > values.length) {
+            values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+        }
+        System.arraycopy(other.values, 0, values, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    int count() {
+        return size;
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    /**
+     * Sorts the samples; call once, after the last {@link #addAll}.
+     */
+    void sort() {
+        Arrays.sort(values, 0, size);
+    }
+
+    /**
+     * Nearest-rank percentile, in milliseconds, of the sorted samples.
+     */
+    double percentile(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * size);
+        return values[Math.max(rank, 1) - 1] / 1_000_000.0;
+    }
+
+    double max() {
+        return size == 0 ? 0 : values[size - 1] / 1_000_000.0;
+    }
+
+}
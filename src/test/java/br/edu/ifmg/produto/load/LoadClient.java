@@ -0,0 +1,213 @@
+package br.edu.ifmg.produto.load;
+
+import org.springframework.boot.json.JacksonJsonParser;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * One simulated shopper: a signed-up client with its own cart, sending the
+ * {@link Action} mix one request at a time, with no think time, until the run
+ * ends. Latencies are recorded once the warm-up is over; the first login
+ * happens before, so that the start of the run does not measure a login storm.
+ */
+class LoadClient {
+
+    /**
+     * The request mix. Weights are relative; the cart endpoint replaces the
+     * whole cart, so adding and removing both post the cart with one product
+     * more or less.
+     */
+    enum Action {
+        BROWSE("GET /product", 30),
+        CATEGORY("GET /product/category", 10),
+        SEARCH("GET /product/search", 20),
+        DETAIL("GET /product/{id}", 25),
+        CART_ADD("POST /cart (add)", 6),
+        CART_REMOVE("POST /cart (remove)", 6),
+        LOGIN("POST /oauth2/token", 3);
+
+        final String label;
+        final int weight;
+
+        Action(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+    }
+
+    private static final int TOTAL_WEIGHT = Arrays.stream(Action.values()).mapToInt(a -> a.weight).sum();
+
+    private static final int PRODUCTS = 25;
+    private static final int CATEGORIES = 6;
+    private static final List<String> SEARCH_TERMS = List.of(
+            "pc gamer", "gamer", "smart tv", "macbook", "rings", "rails", "pc gamr", "max", "turbo", "livro");
+
+    private static final Map<Long, String> PRICES = Map.of(
+            1L, "90.5", 2L, "2190.0", 3L, "1250.0", 4L, "1200.0", 5L, "100.99");
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final String clientId;
+    private final String clientSecret;
+    private final String username;
+    private final String password;
+
+    private final Map<Action, LatencySamples> samples = new EnumMap<>(Action.class);
+    private final List<Long> cart = new ArrayList<>();
+    private String token;
+
+    LoadClient(HttpClient http, String baseUrl, String clientId, String clientSecret,
+               String username, String password) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.username = username;
+        this.password = password;
+        for (Action action : Action.values()) {
+            samples.put(action, new LatencySamples());
+        }
+    }
+
+    Map<Action, LatencySamples> samples() {
+        return samples;
+    }
+
+    void login() throws IOException, InterruptedException {
+        HttpResponse<String> response = tokenRequest();
+        if (!isSuccess(response)) {
+            throw new IOException("Token request of " + username + " answered "
+                    + response.statusCode() + ": " + response.body());
+        }
+        token = accessToken(response);
+    }
+
+    /**
+     * Sends requests until {@code end}, recording those started after {@code warmupEnd}
+     * (both {@link System#nanoTime()} values).
+     */
+    void run(long warmupEnd, long end) {
+        try {
+            while (System.nanoTime() < end) {
+                Action action = next();
+                long start = System.nanoTime();
+                boolean error;
+                try {
+                    error = !isSuccess(send(action));
+                } catch (IOException e) {
+                    error = true;
+                }
+                long finish = System.nanoTime();
+                if (start >= warmupEnd && finish <= end) {
+                    samples.get(action).record(finish - start, error);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Action next() {
+        int pick = ThreadLocalRandom.current().nextInt(TOTAL_WEIGHT);
+        for (Action action : Action.values()) {
+            pick -= action.weight;
+            if (pick < 0) {
+                return action;
+            }
+        }
+        throw new AssertionError();
+    }
+
+    private HttpResponse<?> send(Action action) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (action) {
+            case BROWSE -> get("/product?page=" + random.nextInt(2) + "&size=20");
+            case CATEGORY -> get("/product/category?categoryId=" + (1 + random.nextInt(CATEGORIES)) + "&size=20");
+            case SEARCH -> get("/product/search?name="
+                    + URLEncoder.encode(SEARCH_TERMS.get(random.nextInt(SEARCH_TERMS.size())), StandardCharsets.UTF_8)
+                    + "&size=20");
+            case DETAIL -> get("/product/" + (1 + random.nextInt(PRODUCTS)));
+            case CART_ADD -> {
+                cart.add(1L + random.nextInt(PRICES.size()));
+                yield postCart();
+            }
+            case CART_REMOVE -> {
+                if (!cart.isEmpty()) {
+                    cart.remove(random.nextInt(cart.size()));
+                }
+                yield postCart();
+            }
+            case LOGIN -> {
+                HttpResponse<String> response = tokenRequest();
+                if (isSuccess(response)) {
+                    token = accessToken(response);
+                }
+                yield response;
+            }
+        };
+    }
+
+    private HttpResponse<Void> get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private HttpResponse<Void> postCart() throws IOException, InterruptedException {
+        Map<Long, Long> quantities = cart.stream()
+                .collect(Collectors.groupingBy(id -> id, TreeMap::new, Collectors.counting()));
+        String items = quantities.entrySet().stream()
+                .map(e -> "{\"productId\":" + e.getKey() + ",\"quantity\":" + e.getValue()
+                        + ",\"price\":" + PRICES.get(e.getKey()) + "}")
+                .collect(Collectors.joining(","));
+        double total = quantities.entrySet().stream()
+                .mapToDouble(e -> Double.parseDouble(PRICES.get(e.getKey())) * e.getValue())
+                .sum();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/cart"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"items\":[" + items + "],\"total\":" + total + "}"))
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    /**
+     * Password grant with HTTP Basic client credentials, as {@code TokenUtil} does in the tests.
+     */
+    private HttpResponse<String> tokenRequest() throws IOException, InterruptedException {
+        String form = "grant_type=password"
+                + "&client_id=" + URLEncoder.encode(clientId, StandardCharsets.UTF_8)
+                + "&username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8);
+        String basic = Base64.getEncoder()
+                .encodeToString((clientId + ":" + clientSecret).getBytes(StandardCharsets.UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/oauth2/token"))
+                .header("Authorization", "Basic " + basic)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .header("Accept", "application/json;charset=UTF-8")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String accessToken(HttpResponse<String> response) {
+        return new JacksonJsonParser().parseMap(response.body()).get("access_token").toString();
+    }
+
+    private static boolean isSuccess(HttpResponse<?> response) {
+        return response.statusCode() / 100 == 2;
+    }
+
+}
@@ -0,0 +1,192 @@
+package br.edu.ifmg.produto.load;
+
+import br.edu.ifmg.produto.ProdutoApplication;
+import br.edu.ifmg.produto.config.VirtualThreadPinningMonitor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Boots the application on an in-memory H2 database and a random port, signs
+ * up one client user per simulated shopper and runs the {@link LoadClient}
+ * mix from that many virtual threads over loopback, then prints throughput
+ * and latency percentiles per endpoint. Everything runs in this JVM, offline.
+ * <p>
+ * {@code mvn -Pload test-compile exec:exec -Dload.clients=200 -Dload.duration=60}
+ * <ul>
+ *     <li>{@code load.clients}: concurrent shoppers (default 50)</li>
+ *     <li>{@code load.warmup}: seconds run before recording starts (default 10)</li>
+ *     <li>{@code load.duration}: seconds recorded after the warm-up (default 30)</li>
+ *     <li>{@code load.compare}: run twice, on platform and on virtual threads, and report both (default false)</li>
+ * </ul>
+ * Extra arguments are passed to the application, e.g. {@code --spring.threads.virtual.enabled=true}.
+ * On virtual threads the report ends with the pinned threads seen by
+ * {@link VirtualThreadPinningMonitor}, by location.
+ */
+public class LoadTest {
+
+    private static final String PASSWORD = "load-test-123";
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("load.clients", 50);
+        int warmupSeconds = Integer.getInteger("load.warmup", 10);
+        int durationSeconds = Integer.getInteger("load.duration", 30);
+
+        if (Boolean.getBoolean("load.compare")) {
+            run("Platform threads", clients, warmupSeconds, durationSeconds,
+                    with(args, "--spring.threads.virtual.enabled=false"));
+            run("Virtual threads", clients, warmupSeconds, durationSeconds,
+                    with(args, "--spring.threads.virtual.enabled=true"));
+        } else {
+            run(null, clients, warmupSeconds, durationSeconds, args);
+        }
+    }
+
+    private static void run(String title, int clients, int warmupSeconds, int durationSeconds, String[] args)
+            throws Exception {
+
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load",
+                "--spring.datasource.replica.url=jdbc:h2:mem:load",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN"));
+        arguments.addAll(List.of(args));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProdutoApplication.class)
+                .run(arguments.toArray(String[]::new))) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+            Environment environment = context.getEnvironment();
+            String clientId = environment.getRequiredProperty("security.client-id");
+            String clientSecret = environment.getRequiredProperty("security.client-secret");
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient http = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .executor(executor)
+                        .build();
+
+                List<LoadClient> loadClients = new ArrayList<>();
+                for (String username : signUp(http, baseUrl, clients)) {
+                    loadClients.add(new LoadClient(http, baseUrl, clientId, clientSecret, username, PASSWORD));
+                }
+                List<Future<?>> running = new ArrayList<>();
+                for (LoadClient client : loadClients) {
+                    running.add(executor.submit(() -> {
+                        client.login();
+                        return null;
+                    }));
+                }
+                waitFor(running);
+
+                long start = System.nanoTime();
+                long warmupEnd = start + Duration.ofSeconds(warmupSeconds).toNanos();
+                long end = warmupEnd + Duration.ofSeconds(durationSeconds).toNanos();
+                System.out.printf("%nRunning %d clients against %s: %ds warm-up, %ds recorded%n",
+                        clients, baseUrl, warmupSeconds, durationSeconds);
+
+                running.clear();
+                for (LoadClient client : loadClients) {
+                    running.add(executor.submit(() -> client.run(warmupEnd, end)));
+                }
+                waitFor(running);
+
+                if (title != null) {
+                    System.out.printf("%n== %s ==%n", title);
+                }
+                report(loadClients, durationSeconds);
+                context.getBeanProvider(VirtualThreadPinningMonitor.class).ifAvailable(LoadTest::reportPinning);
+            }
+        }
+    }
+
+    private static void waitFor(List<Future<?>> futures) throws Exception {
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static String[] with(String[] args, String argument) {
+        String[] result = Arrays.copyOf(args, args.length + 1);
+        result[args.length] = argument;
+        return result;
+    }
+
+    /**
+     * Creates the shoppers through the public sign-up endpoint, which also gives each one a cart.
+     */
+    private static List<String> signUp(HttpClient http, String baseUrl, int clients)
+            throws IOException, InterruptedException {
+
+        List<String> usernames = new ArrayList<>(clients);
+        for (int i = 1; i <= clients; i++) {
+            String username = "load" + i + "@example.com";
+            String body = "{\"firstName\":\"Load\",\"lastName\":\"Client " + i + "\",\"email\":\"" + username
+                    + "\",\"phone\":\"999999999\",\"password\":\"" + PASSWORD + "\"}";
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/user/signup"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Sign-up of " + username + " answered "
+                        + response.statusCode() + ": " + response.body());
+            }
+            usernames.add(username);
+        }
+        return usernames;
+    }
+
+    private static void report(List<LoadClient> clients, int durationSeconds) {
+        Map<LoadClient.Action, LatencySamples> merged = new EnumMap<>(LoadClient.Action.class);
+        LatencySamples all = new LatencySamples();
+        for (LoadClient client : clients) {
+            client.samples().forEach((action, samples) -> {
+                merged.computeIfAbsent(action, a -> new LatencySamples()).addAll(samples);
+                all.addAll(samples);
+            });
+        }
+
+        String header = "%-24s %9s %7s %9s %9s %9s %9s %9s%n";
+        String row = "%-24s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n";
+        System.out.println();
+        System.out.printf(header, "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "p99.9 ms", "Max ms");
+        merged.forEach((action, samples) -> print(row, action.label, samples, durationSeconds));
+        print(row, "Total", all, durationSeconds);
+    }
+
+    private static void reportPinning(VirtualThreadPinningMonitor monitor) {
+        Map<String, Long> locations = monitor.pinnedLocations();
+        System.out.printf("%nPinned virtual threads: %d%n", locations.values().stream().mapToLong(Long::longValue).sum());
+        locations.entrySet().stream()
+                .limit(10)
+                .forEach(e -> System.out.printf("%9d  %s%n", e.getValue(), e.getKey()));
+    }
+
+    private static void print(String format, String label, LatencySamples samples, int durationSeconds) {
+        samples.sort();
+        System.out.printf(format, label, samples.count(), samples.errors(),
+                (double) samples.count() / durationSeconds,
+                samples.percentile(50), samples.percentile(99), samples.percentile(99.9), samples.max());
+    }
+
+}
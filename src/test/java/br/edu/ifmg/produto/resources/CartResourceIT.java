@@ -0,0 +1,65 @@
+package br.edu.ifmg.produto.resources;
+
+import br.edu.ifmg.produto.util.SqlStatementRecorder;
+import br.edu.ifmg.produto.util.TokenUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class CartResourceIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TokenUtil tokenUtil;
+
+    @Autowired
+    private SqlStatementRecorder sqlRecorder;
+
+    private String token;
+    private Long clientId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        token = tokenUtil.obtainAccessToken(mockMvc, "bruno@gmail.com", "123456");
+        clientId = 7L;
+    }
+
+    @Test
+    public void readsShouldStayWithinStatementBudget() throws Exception {
+        // products from different stores and categories, so a lazy association loaded per item would show
+        List<Long> productIds = List.of(1L, 2L, 9L, 13L, 22L);
+        for (int i = 0; i < productIds.size(); i++) {
+            jdbcTemplate.update("INSERT INTO tb_cart_item (id, cart_id, product_id, quantity, price) VALUES (?, 1, ?, 1, 10)",
+                    1000 + i, productIds.get(i));
+        }
+
+        // the cart with its items, then their products and the products' categories in one batch each
+        sqlRecorder.record(() -> mockMvc.perform(get("/cart/{id}", clientId)
+                                .header("Authorization", "Bearer " + token)
+                                .accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.items.length()").value(productIds.size())))
+                .assertAtMost(3);
+    }
+
+}
@@ -1,9 +1,13 @@
 package br.edu.ifmg.produto.resources;
 
 import br.edu.ifmg.produto.dtos.CategoryDTO;
+import br.edu.ifmg.produto.services.cache.CategoryCache;
+import br.edu.ifmg.produto.services.events.CategoryChangedEvent;
 import br.edu.ifmg.produto.util.Factory;
+import br.edu.ifmg.produto.util.SqlStatementRecorder;
 import br.edu.ifmg.produto.util.TokenUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,8 +16,16 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -31,6 +43,12 @@ public class CategoryResourceIT {
     @Autowired
     private TokenUtil tokenUtil;
 
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private SqlStatementRecorder sqlRecorder;
+
     private String token;
     private Long existingId;
     private Long nonExistingId;
@@ -53,6 +71,17 @@ public class CategoryResourceIT {
                 .andExpect(jsonPath("$[0].name").exists());
     }
 
+    @Test
+    public void readsShouldStayWithinStatementBudget() throws Exception {
+        sqlRecorder.record(() -> mockMvc.perform(get("/category").accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk()))
+                .assertAtMost(1);
+
+        sqlRecorder.record(() -> mockMvc.perform(get("/category/{id}", existingId).accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk()))
+                .assertAtMost(1);
+    }
+
     @Test
     public void findByIdShouldReturnCategoryWhenIdExists() throws Exception {
         ResultActions result = mockMvc.perform(get("/category/{id}", existingId)
@@ -132,5 +161,91 @@ public class CategoryResourceIT {
 
         result.andExpect(status().isNotFound());
     }
-}
+    @Test
+    public void findAllShouldReturnNotModifiedWhenETagMatches() throws Exception {
+        String eTag = mockMvc.perform(get("/category").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/category").header("If-None-Match", eTag).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag));
+    }
 
+    @Test
+    public void findByIdShouldReturnNotModifiedWhenETagMatches() throws Exception {
+        String eTag = mockMvc.perform(get("/category/{id}", existingId).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/category/{id}", existingId).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/category/{id}", 1L).header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void findAllShouldBeServedFromCacheAndEvictedAfterUpdateCommits() throws Exception {
+        mockMvc.perform(get("/category").accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk());
+        long hits = categoryCache.getListStats().hitCount();
+
+        mockMvc.perform(get("/category").accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk());
+        Assertions.assertEquals(hits + 1, categoryCache.getListStats().hitCount());
+
+        CategoryDTO original = new CategoryDTO(existingId, null, null, null);
+        String originalName = objectMapper.readValue(mockMvc.perform(get("/category/{id}", existingId))
+                .andReturn().getResponse().getContentAsString(), CategoryDTO.class).getName();
+        original.setName(originalName);
+
+        CategoryDTO dto = Factory.createCategoryDTO();
+        try {
+            mockMvc.perform(put("/category/{id}", existingId)
+                            .header("Authorization", "Bearer " + token)
+                            .content(objectMapper.writeValueAsString(dto))
+                            .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get("/category/{id}", existingId).accept(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.name").value(dto.getName()));
+            mockMvc.perform(get("/category").accept(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$[5].name").value(dto.getName()));
+        } finally {
+            mockMvc.perform(put("/category/{id}", existingId)
+                    .header("Authorization", "Bearer " + token)
+                    .content(objectMapper.writeValueAsString(original))
+                    .contentType(MediaType.APPLICATION_JSON));
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void categoryChangeShouldDiscardListLoadedWhileItCommitted() throws Exception {
+        CategoryChangedEvent event = new CategoryChangedEvent(CategoryChangedEvent.Type.SAVED, existingId, "Fresh");
+        categoryCache.onCategoryChanged(event);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+
+        CompletableFuture<List<CategoryDTO>> stale = CompletableFuture.supplyAsync(() -> categoryCache.getAll(() -> {
+            loading.countDown();
+            try {
+                Assertions.assertTrue(committed.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(new CategoryDTO(existingId, "Stale", null, null));
+        }));
+        Assertions.assertTrue(loading.await(10, TimeUnit.SECONDS));
+        categoryCache.onCategoryChanged(event);
+        committed.countDown();
+        Assertions.assertEquals("Stale", stale.get(10, TimeUnit.SECONDS).get(0).getName());
+
+        try {
+            List<CategoryDTO> fresh = categoryCache.getAll(() -> List.of(new CategoryDTO(existingId, "Fresh", null, null)));
+            Assertions.assertEquals("Fresh", fresh.get(0).getName());
+        } finally {
+            categoryCache.onCategoryChanged(event);
+        }
+    }
+}
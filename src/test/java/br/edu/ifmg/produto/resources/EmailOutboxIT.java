@@ -0,0 +1,207 @@
+package br.edu.ifmg.produto.resources;
+
+import br.edu.ifmg.produto.entities.OutboxEmail;
+import br.edu.ifmg.produto.repository.EmailOutboxRepository;
+import br.edu.ifmg.produto.repository.PasswordRecoverRepository;
+import br.edu.ifmg.produto.services.EmailOutboxDispatcher;
+import br.edu.ifmg.produto.services.EmailOutboxPoller;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Not transactional: the dispatcher only sees committed emails, so each test
+ * removes what it wrote. GreenMail stands in for the SMTP server, and the
+ * scheduled poll is off in test runs, so the tests dispatch themselves.
+ */
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "spring.mail.username=outbox@produto.com.br",
+        "spring.mail.password=secret",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "email.outbox.max-attempts=3"
+})
+@AutoConfigureMockMvc
+public class EmailOutboxIT {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withUser("outbox@produto.com.br", "secret"))
+            .withPerMethodLifecycle(true);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private PasswordRecoverRepository passwordRecoverRepository;
+
+    @AfterEach
+    void tearDown() {
+        emailOutboxRepository.deleteAll();
+        passwordRecoverRepository.deleteAll();
+    }
+
+    @Test
+    public void recoverTokenShouldSucceedWhileMailServerIsDownAndRetryLater() throws Exception {
+        greenMail.stop();
+
+        mockMvc.perform(post("/auth/recover-token")
+                        .content("{\"email\":\"alex@gmail.com\"}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNoContent());
+
+        // the commit triggers a first attempt in the background
+        OutboxEmail email = awaitSingle(e -> e.getAttempts() == 1);
+        Assertions.assertEquals("alex@gmail.com", email.getRecipient());
+        Assertions.assertEquals(OutboxEmail.Status.PENDING, email.getStatus());
+        Assertions.assertNotNull(email.getLastError());
+        Assertions.assertTrue(email.getNextAttemptAt().isAfter(Instant.now().plusSeconds(20)));
+
+        greenMail.start();
+        email.setNextAttemptAt(Instant.now());
+        emailOutboxRepository.save(email);
+        dispatcher.dispatch();
+
+        Assertions.assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        Assertions.assertEquals("alex@gmail.com", received.getAllRecipients()[0].toString());
+        String token = passwordRecoverRepository.findAll().get(0).getToken();
+        Assertions.assertTrue(GreenMailUtil.getBody(received).contains(token));
+        OutboxEmail sent = single();
+        Assertions.assertEquals(OutboxEmail.Status.SENT, sent.getStatus());
+        Assertions.assertNull(sent.getBody());
+    }
+
+    @Test
+    public void dispatchShouldSendEveryDueEmail() {
+        for (int i = 1; i <= 3; i++) {
+            emailOutboxRepository.save(pending("client" + i + "@gmail.com"));
+        }
+
+        dispatcher.dispatch();
+
+        Assertions.assertTrue(greenMail.waitForIncomingEmail(5000, 3));
+        List<OutboxEmail> emails = emailOutboxRepository.findAll();
+        Assertions.assertEquals(3, emails.size());
+        for (OutboxEmail email : emails) {
+            Assertions.assertEquals(OutboxEmail.Status.SENT, email.getStatus());
+            Assertions.assertNotNull(email.getSentAt());
+            Assertions.assertNull(email.getBody());
+            Assertions.assertEquals(0, email.getAttempts());
+        }
+    }
+
+    @Test
+    public void dispatchShouldNotSendEmailsBeforeTheirNextAttempt() {
+        OutboxEmail email = pending("client@gmail.com");
+        email.setNextAttemptAt(Instant.now().plus(Duration.ofMinutes(1)));
+        emailOutboxRepository.save(email);
+
+        dispatcher.dispatch();
+
+        Assertions.assertEquals(0, greenMail.getReceivedMessages().length);
+        Assertions.assertEquals(OutboxEmail.Status.PENDING, single().getStatus());
+    }
+
+    @Test
+    public void emailShouldBeMarkedFailedAfterMaxAttempts() {
+        greenMail.stop();
+        OutboxEmail email = pending("client@gmail.com");
+        email.setAttempts(2);
+        emailOutboxRepository.save(email);
+
+        dispatcher.dispatch();
+
+        OutboxEmail failed = single();
+        Assertions.assertEquals(OutboxEmail.Status.FAILED, failed.getStatus());
+        Assertions.assertEquals(3, failed.getAttempts());
+        Assertions.assertNotNull(failed.getLastError());
+    }
+
+    @Test
+    public void purgeShouldDeleteOnlyFinishedEmailsOlderThanTheRetention() {
+        Instant old = Instant.now().minus(Duration.ofDays(8));
+        OutboxEmail oldSent = pending("sent@gmail.com");
+        oldSent.setStatus(OutboxEmail.Status.SENT);
+        oldSent.setCreatedAt(old);
+        OutboxEmail oldFailed = pending("failed@gmail.com");
+        oldFailed.setStatus(OutboxEmail.Status.FAILED);
+        oldFailed.setCreatedAt(old);
+        OutboxEmail oldPending = pending("pending@gmail.com");
+        oldPending.setCreatedAt(old);
+        OutboxEmail recentSent = pending("recent@gmail.com");
+        recentSent.setStatus(OutboxEmail.Status.SENT);
+        emailOutboxRepository.saveAll(List.of(oldSent, oldFailed, oldPending, recentSent));
+
+        Assertions.assertEquals(2, dispatcher.purge());
+
+        List<String> left = emailOutboxRepository.findAll().stream().map(OutboxEmail::getRecipient).sorted().toList();
+        Assertions.assertEquals(List.of("pending@gmail.com", "recent@gmail.com"), left);
+    }
+
+    @Test
+    public void scheduledPollShouldBeOffInTests() {
+        Assertions.assertTrue(context.getBeansOfType(EmailOutboxPoller.class).isEmpty());
+    }
+
+    private static OutboxEmail pending(String recipient) {
+        Instant now = Instant.now();
+        OutboxEmail email = new OutboxEmail();
+        email.setRecipient(recipient);
+        email.setSubject("Pedido confirmado");
+        email.setBody("Seu pedido foi confirmado.");
+        email.setStatus(OutboxEmail.Status.PENDING);
+        email.setNextAttemptAt(now);
+        email.setCreatedAt(now);
+        return email;
+    }
+
+    private OutboxEmail single() {
+        List<OutboxEmail> emails = emailOutboxRepository.findAll();
+        Assertions.assertEquals(1, emails.size());
+        return emails.get(0);
+    }
+
+    private OutboxEmail awaitSingle(Predicate<OutboxEmail> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            List<OutboxEmail> emails = emailOutboxRepository.findAll();
+            if (emails.size() == 1 && condition.test(emails.get(0))) {
+                return emails.get(0);
+            }
+            Thread.sleep(50);
+        }
+        return Assertions.fail("Outbox did not reach the expected state: " + emailOutboxRepository.findAll());
+    }
+
+}
@@ -0,0 +1,112 @@
+package br.edu.ifmg.produto.resources;
+
+import br.edu.ifmg.produto.services.cache.CategoryCache;
+import br.edu.ifmg.produto.services.cache.ProductCache;
+import br.edu.ifmg.produto.services.events.CategoryChangedEvent;
+import br.edu.ifmg.produto.services.events.ProductChangedEvent;
+import br.edu.ifmg.produto.util.TokenUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class MetricsIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenUtil tokenUtil;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private ProductCache productCache;
+
+    private String adminToken;
+    private String sellerToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        adminToken = tokenUtil.obtainAccessToken(mockMvc, "alex@gmail.com", "123456");
+        sellerToken = tokenUtil.obtainAccessToken(mockMvc, "maria@gmail.com", "123456");
+    }
+
+    @Test
+    public void metricsShouldReportLatencyPerEndpointAndRepositoryMethod() throws Exception {
+        mockMvc.perform(get("/product").accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/metrics/http.server.requests")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.availableTags[?(@.tag == 'uri')].values[*]", hasItem("/product")))
+                .andExpect(jsonPath("$.availableTags[?(@.tag == 'uri')].values[*]", hasItem("/oauth2/token")));
+
+        mockMvc.perform(get("/actuator/metrics/spring.data.repository.invocations?tag=repository:ProductRepository")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.availableTags[?(@.tag == 'method')].values[*]", hasItem("findSliceBy")));
+
+        mockMvc.perform(get("/actuator/metrics/hikaricp.connections.active?tag=pool:primary")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/metrics/hibernate.statements")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void metricsShouldReportCacheHitsAndMisses() throws Exception {
+        categoryCache.onCategoryChanged(CategoryChangedEvent.deleted(1L));
+        productCache.onProductChanged(ProductChangedEvent.deleted(1L));
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/category").accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk());
+            mockMvc.perform(get("/category/1").accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk());
+            mockMvc.perform(get("/product/1").accept(MediaType.APPLICATION_JSON)).andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/actuator/metrics/cache.gets")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.availableTags[?(@.tag == 'cache')].values[*]",
+                        hasItems("category.list", "category.by-id", "product")));
+
+        for (String cache : List.of("category.list", "category.by-id", "product")) {
+            for (String result : List.of("hit", "miss")) {
+                mockMvc.perform(get("/actuator/metrics/cache.gets?tag=cache:" + cache + "&tag=result:" + result)
+                                .header("Authorization", "Bearer " + adminToken))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.measurements[0].value", greaterThanOrEqualTo(1.0)));
+            }
+        }
+    }
+
+    @Test
+    public void metricsShouldRequireAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics").header("Authorization", "Bearer " + sellerToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+}
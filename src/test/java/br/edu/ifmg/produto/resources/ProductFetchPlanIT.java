@@ -0,0 +1,53 @@
+package br.edu.ifmg.produto.resources;
+
+import br.edu.ifmg.produto.util.SqlStatementRecorder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ProductFetchPlanIT {
+
+    private static final int MAX_STATEMENTS_PER_PAGE = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementRecorder sqlRecorder;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 25})
+    public void findAllShouldUseBoundedStatementsWhateverThePageSize(int size) throws Exception {
+        assertBoundedStatements("/product?count=none&size=" + size, size);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 25})
+    public void findAllProductsByCategoryShouldUseBoundedStatementsWhateverThePageSize(int size) throws Exception {
+        assertBoundedStatements("/product/category?categoryId=3&count=none&size=" + size, Math.min(size, 22));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 25})
+    public void searchShouldUseBoundedStatementsWhateverThePageSize(int size) throws Exception {
+        assertBoundedStatements("/product/search?name=pc&sort=price&size=" + size, Math.min(size, 21));
+    }
+
+    private void assertBoundedStatements(String url, int expectedElements) throws Exception {
+        sqlRecorder.record(() -> mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.content.length()").value(expectedElements)))
+                .assertAtMost(MAX_STATEMENTS_PER_PAGE);
+    }
+
+}
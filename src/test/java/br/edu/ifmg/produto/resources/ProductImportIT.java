@@ -0,0 +1,222 @@
+package br.edu.ifmg.produto.resources;
+
+import br.edu.ifmg.produto.entities.Product;
+import br.edu.ifmg.produto.services.exports.ProductExportWriter;
+import br.edu.ifmg.produto.services.imports.ProductFileFormat;
+import br.edu.ifmg.produto.services.imports.ProductImportReader;
+import br.edu.ifmg.produto.services.imports.ProductImportRow;
+import br.edu.ifmg.produto.util.TokenUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Own database: imported rows consume sequence values even when rolled back,
+// which would shift the ids the other ITs expect.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:importdb",
+        "product-import.batch-size=2",
+        "product-import.max-record-length=1000"
+})
+@AutoConfigureMockMvc
+@Transactional
+public class ProductImportIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenUtil tokenUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        token = tokenUtil.obtainAccessToken(mockMvc, "maria@gmail.com", "123456");
+    }
+
+    @Test
+    public void importShouldInsertValidNdjsonLinesAndReportInvalidOnes() throws Exception {
+        String body = """
+                {"name": "Dom Casmurro", "price": 39.9, "categories": ["livros", 3]}
+                {"name": "Boneca", "price": 59.9, "categories": ["Brinquedos"]}
+
+                {"name": "Livro sem preco", "price": "abc", "categories": [1]}
+                {"name": "O Cortiço", "price": 25, "categories": [1]}
+                {"name": "Iracema", "price": 19.9, "categories": ["Livros"]}
+                """;
+
+        ResultActions result = mockMvc.perform(post("/product/import")
+                .header("Authorization", "Bearer " + token)
+                .content(body.getBytes(StandardCharsets.UTF_8))
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.rows").value(5));
+        result.andExpect(jsonPath("$.imported").value(3));
+        result.andExpect(jsonPath("$.rejected").value(2));
+        result.andExpect(jsonPath("$.errors[0].line").value(2));
+        result.andExpect(jsonPath("$.errors[0].message").value("Unknown category: Brinquedos"));
+        result.andExpect(jsonPath("$.errors[1].line").value(4));
+        result.andExpect(jsonPath("$.errorsTruncated").value(false));
+
+        mockMvc.perform(get("/product?sort=id,desc&size=3").accept(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content[0].name").value("Iracema"))
+                .andExpect(jsonPath("$.content[2].name").value("Dom Casmurro"));
+        mockMvc.perform(get("/product/category?categoryId=3&sort=id,desc&size=1").accept(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content[0].name").value("Dom Casmurro"));
+        mockMvc.perform(get("/store/home").accept(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[?(@.id == 2)].productCount", contains(8)));
+    }
+
+    @Test
+    public void importShouldParseQuotedCsvFields() throws Exception {
+        String body = """
+                name,description,price,imageUrl,categories
+                "Notebook 15, 16GB","Tela ""Full HD""\",4500.00,,Computadores|Eletrônicos
+                PC,curto,10,,3
+                """;
+
+        ResultActions result = mockMvc.perform(post("/product/import")
+                .header("Authorization", "Bearer " + token)
+                .content(body.getBytes(StandardCharsets.UTF_8))
+                .contentType("text/csv")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.imported").value(1));
+        result.andExpect(jsonPath("$.errors[0].line").value(3));
+        result.andExpect(jsonPath("$.errors[0].message").value("name: Must be between 3 and 255 characters"));
+
+        mockMvc.perform(get("/product?sort=id,desc&size=1").accept(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content[0].name").value("Notebook 15, 16GB"))
+                .andExpect(jsonPath("$.content[0].description").value("Tela \"Full HD\""));
+        mockMvc.perform(get("/product/category?categoryId=2&sort=id,desc&size=1").accept(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content[0].name").value("Notebook 15, 16GB"));
+    }
+
+    @Test
+    public void importShouldRejectOnlyTheRowsTheDatabaseRefuses() throws Exception {
+        String longUrl = "https://example.com/" + "a".repeat(300);
+        String body = """
+                {"name": "Dom Casmurro", "price": 39.9, "categories": [1]}
+                {"name": "Memorias Postumas", "price": 29.9, "imageUrl": "%s", "categories": [1]}
+                {"name": "Iracema", "price": 19.9, "categories": [1]}
+                """.formatted(longUrl);
+
+        ResultActions result = mockMvc.perform(post("/product/import")
+                .header("Authorization", "Bearer " + token)
+                .content(body.getBytes(StandardCharsets.UTF_8))
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.imported").value(2));
+        result.andExpect(jsonPath("$.rejected").value(1));
+        result.andExpect(jsonPath("$.errors[0].line").value(2));
+        result.andExpect(jsonPath("$.errors[0].message").value(startsWith("Insert failed: ")));
+    }
+
+    @Test
+    public void importShouldRejectLinesLongerThanTheMaximumRecordLength() throws Exception {
+        String body = "{\"name\": \"" + "x".repeat(2000) + "\", \"price\": 10, \"categories\": [1]}\n"
+                + "{\"name\": \"Iracema\", \"price\": 19.9, \"categories\": [1]}\n";
+
+        ResultActions result = mockMvc.perform(post("/product/import")
+                .header("Authorization", "Bearer " + token)
+                .content(body.getBytes(StandardCharsets.UTF_8))
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.imported").value(1));
+        result.andExpect(jsonPath("$.errors[0].line").value(1));
+        result.andExpect(jsonPath("$.errors[0].message").value("Record is longer than 1000 characters"));
+    }
+
+    @Test
+    public void importShouldReadCsvFieldsSpanningLines() throws Exception {
+        String body = "name,description,price,imageUrl,categories\r\n"
+                + "Dom Casmurro,\"Primeira linha\r\nSegunda, com \"\"aspas\"\"\",39.9,,1\r\n"
+                + "PC,curto,10,,3\r\n";
+
+        ResultActions result = mockMvc.perform(post("/product/import")
+                .header("Authorization", "Bearer " + token)
+                .content(body.getBytes(StandardCharsets.UTF_8))
+                .contentType("text/csv")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.rows").value(2));
+        result.andExpect(jsonPath("$.imported").value(1));
+        result.andExpect(jsonPath("$.errors[0].line").value(4));
+
+        mockMvc.perform(get("/product?sort=id,desc&size=1").accept(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content[0].name").value("Dom Casmurro"))
+                .andExpect(jsonPath("$.content[0].description").value("Primeira linha\nSegunda, com \"aspas\""));
+    }
+
+    @Test
+    public void exportedCsvShouldBeReadBackWithLineBreaksInFields() throws Exception {
+        Product product = new Product();
+        product.setId(7L);
+        product.setName("Dom Casmurro");
+        product.setDescription("Primeira linha\nSegunda, com \"aspas\"");
+        product.setPrice(new BigDecimal("39.90"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ProductExportWriter writer = new ProductExportWriter(ProductFileFormat.CSV, out, objectMapper);
+        writer.write(product);
+        writer.flush();
+        Assertions.assertTrue(out.toString(StandardCharsets.UTF_8).contains("\"Primeira linha\nSegunda, com \"\"aspas\"\"\""));
+
+        ProductImportReader reader = new ProductImportReader(
+                new ByteArrayInputStream(out.toByteArray()), ProductFileFormat.CSV, objectMapper, 1000);
+        ProductImportRow row = reader.next();
+        Assertions.assertEquals(2, row.line());
+        Assertions.assertEquals(product.getDescription(), row.description());
+        Assertions.assertEquals(product.getPrice(), row.price());
+        Assertions.assertNull(reader.next());
+    }
+
+    @Test
+    public void importShouldReturnBadRequestWhenCsvHeaderIsIncomplete() throws Exception {
+        mockMvc.perform(post("/product/import")
+                        .header("Authorization", "Bearer " + token)
+                        .content("name,description\nLivro,Bom\n")
+                        .contentType("text/csv"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void importShouldReturnForbiddenWhenNoToken() throws Exception {
+        mockMvc.perform(post("/product/import")
+                        .content("{}")
+                        .contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isForbidden());
+    }
+
+}
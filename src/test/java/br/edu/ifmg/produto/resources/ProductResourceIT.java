@@ -1,8 +1,19 @@
 package br.edu.ifmg.produto.resources;
 
+import br.edu.ifmg.produto.dtos.CategoryDTO;
 import br.edu.ifmg.produto.dtos.ProductDTO;
+import br.edu.ifmg.produto.services.cache.ProductCache;
+import br.edu.ifmg.produto.services.events.CategoryChangedEvent;
+import br.edu.ifmg.produto.services.events.ProductChangedEvent;
+import br.edu.ifmg.produto.services.pagination.RowCountEstimator;
+import br.edu.ifmg.produto.services.search.ProductSearchIndex;
+import br.edu.ifmg.produto.services.search.ProductSuggester;
+import br.edu.ifmg.produto.services.search.SpellingCorrector;
 import br.edu.ifmg.produto.util.Factory;
+import br.edu.ifmg.produto.util.SqlStatementRecorder;
 import br.edu.ifmg.produto.util.TokenUtil;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,10 +23,18 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.stream.Collectors;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -32,6 +51,24 @@ public class ProductResourceIT {
 
     @Autowired
     private TokenUtil tokenUtil;
+
+    @Autowired
+    private ProductSuggester productSuggester;
+
+    @Autowired
+    private SpellingCorrector spellingCorrector;
+
+    @Autowired
+    private ProductSearchIndex searchIndex;
+
+    @Autowired
+    private RowCountEstimator rowCountEstimator;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private SqlStatementRecorder sqlRecorder;
     private String token;
 
     private Long existingId;
@@ -144,4 +181,622 @@ public class ProductResourceIT {
         Assertions.assertEquals("The Lord of the Rings", dto.getName());
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void productCacheShouldBeEvictedWhenCategoryChanges() {
+        Long id = 9100L;
+        ProductDTO cached = productCache.get(id, key -> productWithCategory(key, "Livros"));
+        Assertions.assertEquals("Livros", cached.getCategories().iterator().next().getName());
+
+        productCache.onCategoryChanged(new CategoryChangedEvent(CategoryChangedEvent.Type.SAVED, 1L, "Literatura"));
+
+        ProductDTO reloaded = productCache.get(id, key -> productWithCategory(key, "Literatura"));
+        Assertions.assertEquals("Literatura", reloaded.getCategories().iterator().next().getName());
+        productCache.onProductChanged(ProductChangedEvent.deleted(id));
+    }
+
+    @Test
+    public void searchShouldMatchProductAndCategoryNamesIgnoringCase() throws Exception {
+        ResultActions result = mockMvc.perform(get("/product/search?name=LIVROS&sort=id")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.totalElements").value(2));
+        result.andExpect(jsonPath("$.content[0].name").value("The Lord of the Rings"));
+        result.andExpect(jsonPath("$.content[1].name").value("Rails for Dummies"));
+    }
+
+    @Test
+    public void findAllProductsByCategoryShouldFilterByNameWithinCategory() throws Exception {
+        ResultActions result = mockMvc.perform(get("/product/category?categoryId=3&name=gamer t&size=5&sort=name,asc")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.totalElements").value(4));
+        result.andExpect(jsonPath("$.content[0].name").value("PC Gamer Tera"));
+    }
+
+    @Test
+    public void findAllProductsByCategoryShouldPageNameMatchesInPriceOrder() throws Exception {
+        List<JsonNode> all = contentOf("/product/category?categoryId=3&name=gamer&size=50&sort=price,desc&sort=name");
+        List<JsonNode> page = contentOf("/product/category?categoryId=3&name=gamer&page=1&size=5&sort=price,desc&sort=name");
+
+        Assertions.assertEquals(all.subList(5, 10), page);
+        for (int i = 1; i < all.size(); i++) {
+            Assertions.assertTrue(all.get(i - 1).get("price").decimalValue()
+                    .compareTo(all.get(i).get("price").decimalValue()) >= 0);
+        }
+    }
+
+    @Test
+    public void cursorListingsShouldQueryTheDatabaseWhenSearchIndexIsNotReady() throws Exception {
+        ReflectionTestUtils.setField(searchIndex, "ready", false);
+        try {
+            mockMvc.perform(get("/product/category?categoryId=3&name=GAMER T&after=&size=10&sort=name")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(4))
+                    .andExpect(jsonPath("$.content[0].name").value("PC Gamer Tera"));
+
+            mockMvc.perform(get("/product/search?name=livros&after=&size=10&sort=id")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(2))
+                    .andExpect(jsonPath("$.content[0].name").value("The Lord of the Rings"));
+        } finally {
+            ReflectionTestUtils.setField(searchIndex, "ready", true);
+        }
+    }
+
+    @Test
+    public void cursorSearchShouldLoadOnlyThePageFromTheIndexMatches() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        List<BigDecimal> prices = new ArrayList<>();
+        String after = "";
+        do {
+            String cursor = after;
+            String[] json = new String[1];
+            sqlRecorder.record(() -> json[0] = mockMvc.perform(get("/product/search")
+                                    .param("name", "gamer")
+                                    .param("after", cursor)
+                                    .param("size", "3")
+                                    .param("sort", "price,desc")
+                                    .accept(MediaType.APPLICATION_JSON))
+                            .andExpect(status().isOk())
+                            .andReturn().getResponse().getContentAsString())
+                    .all()
+                    .forEach(sql -> Assertions.assertTrue(sql.chars().filter(c -> c == '?').count() <= 4, sql));
+
+            JsonNode page = objectMapper.readTree(json[0]);
+            page.path("content").forEach(product -> {
+                ids.add(product.path("id").asLong());
+                prices.add(product.path("price").decimalValue());
+            });
+            after = page.path("nextCursor").isNull() ? null : page.path("nextCursor").asText();
+        } while (after != null);
+
+        List<JsonNode> all = contentOf("/product/search?name=gamer&size=50&sort=price,desc");
+        Assertions.assertEquals(all.size(), ids.size());
+        Assertions.assertEquals(all.stream().map(p -> p.get("id").asLong()).collect(Collectors.toSet()), new HashSet<>(ids));
+        List<BigDecimal> sorted = new ArrayList<>(prices);
+        sorted.sort(Collections.reverseOrder());
+        Assertions.assertEquals(sorted, prices);
+    }
+
+    @Test
+    public void findAllProductsByCategoryShouldQueryTheDatabaseWhenIndexCannotSort() throws Exception {
+        mockMvc.perform(get("/product/category?categoryId=3&name=gamer t&size=5&sort=description")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(4))
+                .andExpect(jsonPath("$.content.length()").value(4));
+    }
+
+    @Test
+    public void findAllByCursorShouldWalkEveryProductOnceInSortOrder() throws Exception {
+        List<Object> prices = new ArrayList<>();
+        Set<Object> ids = new HashSet<>();
+        String after = "";
+
+        do {
+            String json = mockMvc.perform(get("/product")
+                            .param("after", after)
+                            .param("size", "10")
+                            .param("sort", "price,desc")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+
+            Map<String, Object> page = objectMapper.readValue(json, new TypeReference<>() {});
+            for (Object item : (List<?>) page.get("content")) {
+                Map<?, ?> product = (Map<?, ?>) item;
+                Assertions.assertTrue(ids.add(product.get("id")));
+                prices.add(new BigDecimal(product.get("price").toString()));
+            }
+            after = (String) page.get("nextCursor");
+        } while (after != null);
+
+        Assertions.assertEquals(25, ids.size());
+        List<Object> sorted = new ArrayList<>(prices);
+        sorted.sort(Collections.reverseOrder());
+        Assertions.assertEquals(sorted, prices);
+    }
+
+    @Test
+    public void findAllByCursorShouldWalkProductsWithoutPriceInBothDirections() throws Exception {
+        ProductDTO dto = Factory.createProductDTO();
+        dto.setPrice(null);
+        dto.getCategories().clear();
+        dto.getCategories().add(new CategoryDTO(1L, null, null, null));
+        String created = mockMvc.perform(post("/product")
+                        .header("Authorization", "Bearer " + token)
+                        .content(objectMapper.writeValueAsString(dto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long createdId = objectMapper.readTree(created).get("id").asLong();
+
+        for (String direction : List.of("asc", "desc")) {
+            List<Object> ids = new ArrayList<>();
+            String after = "";
+            do {
+                String json = mockMvc.perform(get("/product")
+                                .param("after", after)
+                                .param("size", "4")
+                                .param("sort", "price," + direction)
+                                .accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsString();
+
+                JsonNode page = objectMapper.readTree(json);
+                page.path("content").forEach(product -> ids.add(product.path("id").asLong()));
+                after = page.path("nextCursor").isNull() ? null : page.path("nextCursor").asText();
+            } while (after != null);
+
+            Assertions.assertEquals(26, ids.size());
+            Assertions.assertEquals(26, new HashSet<>(ids).size());
+            Assertions.assertEquals(createdId, direction.equals("asc") ? ids.getFirst() : ids.getLast());
+        }
+    }
+
+    @Test
+    public void findAllByCursorShouldOrderByThePlainSortColumns() throws Exception {
+        String json = mockMvc.perform(get("/product?after=&size=5&sort=price").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String after = objectMapper.readTree(json).path("nextCursor").asText();
+
+        List<String> statements = sqlRecorder.record(() ->
+                        mockMvc.perform(get("/product?size=5&sort=price").param("after", after)
+                                        .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content.length()").value(5)))
+                .all();
+
+        // one query for the page; the other statements load its categories
+        String sql = statements.getFirst().toLowerCase(Locale.ROOT);
+        Assertions.assertEquals(1, statements.stream().filter(q -> q.contains(" from tb_product ")).count());
+        Assertions.assertFalse(sql.contains("case"), sql);
+        Assertions.assertTrue(sql.contains("order by p1_0.price,p1_0.id"), sql);
+    }
+
+    @Test
+    public void findAllByCursorShouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+        ResultActions result = mockMvc.perform(get("/product")
+                .param("after", "not-a-cursor")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void findAllShouldOmitTotalsWhenCountModeIsNone() throws Exception {
+        ResultActions result = mockMvc.perform(get("/product?page=0&size=5&count=none")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.content.length()").value(5));
+        result.andExpect(jsonPath("$.totalElements").doesNotExist());
+        result.andExpect(jsonPath("$.last").value(false));
+    }
+
+    @Test
+    public void findAllShouldReturnTotalsWhenCountModeIsApproximate() throws Exception {
+        ResultActions result = mockMvc.perform(get("/product?page=0&size=5&count=approximate")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.totalElements").value(25));
+    }
+
+    @Test
+    public void rowCountEstimatorShouldReadDatabaseStatistics() {
+        Assertions.assertEquals(OptionalLong.of(25), rowCountEstimator.estimate("tb_product"));
+    }
+
+    @Test
+    public void rowCountEstimatorShouldGiveUpOnlyOnQueriesTheDatabaseRejects() {
+        Object query = ReflectionTestUtils.getField(rowCountEstimator, "query");
+        try {
+            // fails on the value of this call only
+            String failing = "SELECT CAST(? AS BIGINT)";
+            ReflectionTestUtils.setField(rowCountEstimator, "query", failing);
+            Assertions.assertTrue(rowCountEstimator.estimate("tb_product").isEmpty());
+            Assertions.assertEquals(failing, ReflectionTestUtils.getField(rowCountEstimator, "query"));
+
+            ReflectionTestUtils.setField(rowCountEstimator, "query", "SELECT ROW_COUNT_ESTIMATE FROM NO_SUCH_TABLE WHERE ? IS NOT NULL");
+            Assertions.assertTrue(rowCountEstimator.estimate("tb_product").isEmpty());
+            Assertions.assertEquals("", ReflectionTestUtils.getField(rowCountEstimator, "query"));
+        } finally {
+            ReflectionTestUtils.setField(rowCountEstimator, "query", query);
+        }
+    }
+
+    @Test
+    public void findAllShouldCountExactlyWhenNoEstimateIsAvailable() throws Exception {
+        Object query = ReflectionTestUtils.getField(rowCountEstimator, "query");
+        ReflectionTestUtils.setField(rowCountEstimator, "query", "");
+        try {
+            Assertions.assertTrue(rowCountEstimator.estimate("tb_product").isEmpty());
+            mockMvc.perform(get("/product?page=0&size=5&count=approximate")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").value(25));
+        } finally {
+            ReflectionTestUtils.setField(rowCountEstimator, "query", query);
+        }
+    }
+
+    @Test
+    public void findAllShouldReturnBadRequestWhenCountModeIsInvalid() throws Exception {
+        ResultActions result = mockMvc.perform(get("/product?count=sometimes")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void findByIdShouldReturnLinksBuiltFromMappings() throws Exception {
+        ResultActions result = mockMvc.perform(get("/product/{id}", existingId)
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$._links.self.href").value("http://localhost/product/" + existingId));
+        result.andExpect(jsonPath("$._links.all-products.href").value("http://localhost/product"));
+        result.andExpect(jsonPath("$._links.update.href").value("http://localhost/product/" + existingId));
+    }
+
+    @Test
+    public void findAllShouldOmitLinksWhenLinksAreDisabled() throws Exception {
+        ResultActions result = mockMvc.perform(get("/product?size=3&links=false")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.content[0].links").isEmpty());
+    }
+
+    @Test
+    public void findByIdShouldReturnNotModifiedWhenETagMatches() throws Exception {
+        String eTag = mockMvc.perform(get("/product/{id}", existingId).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        ResultActions result = mockMvc.perform(get("/product/{id}", existingId)
+                .header("If-None-Match", eTag)
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isNotModified());
+        result.andExpect(header().string("ETag", eTag));
+        Assertions.assertEquals("", result.andReturn().getResponse().getContentAsString());
+    }
+
+    @Test
+    public void findAllShouldReturnNewETagAfterProductDelete() throws Exception {
+        String eTag = mockMvc.perform(get("/product?page=0&size=5&sort=id").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/product?page=0&size=5&sort=id")
+                        .header("If-None-Match", eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(delete("/product/{id}", existingId)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/product?page=0&size=5&sort=id")
+                        .header("If-None-Match", eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(2));
+    }
+
+    @Test
+    public void searchShouldRankMatchesFromNameDescriptionAndCategory() throws Exception {
+        // shortest name wins when every "PC Gamer ..." matches both words
+        mockMvc.perform(get("/product/search?name=pc gamer&size=3").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(21))
+                .andExpect(jsonPath("$.content[0].name").value("PC Gamer"));
+
+        // last word matches as a prefix, earlier words must match whole
+        mockMvc.perform(get("/product/search?name=gamer al").accept(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("PC Gamer Alfa"));
+
+        mockMvc.perform(get("/product/search?name=eletronicos").accept(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("Smart TV"));
+
+        mockMvc.perform(get("/product/search?name=dolore magna&sort=price,desc&size=2").accept(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.totalElements").value(25))
+                .andExpect(jsonPath("$.content[0].name").value("PC Gamer Foo"));
+    }
+
+    @Test
+    public void searchShouldReturnNotModifiedWhenETagMatches() throws Exception {
+        String eTag = mockMvc.perform(get("/product/search?name=gamer&size=5").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/product/search?name=gamer&size=5")
+                        .header("If-None-Match", eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/product/search?name=gamer&size=5&page=1")
+                        .header("If-None-Match", eTag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void findAllProductsByCategoryShouldReturnFacetsWhenRequested() throws Exception {
+        ResultActions result = mockMvc.perform(get("/product/category?categoryId=1&facets=true")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.totalElements").value(2));
+        result.andExpect(jsonPath("$.content.length()").value(2));
+        // category counts ignore the categoryId filter
+        result.andExpect(jsonPath("$.facets.categories.length()").value(3));
+        result.andExpect(jsonPath("$.facets.categories[0].name").value("Computadores"));
+        result.andExpect(jsonPath("$.facets.categories[0].count").value(22));
+        result.andExpect(jsonPath("$.facets.categories[1].name").value("Livros"));
+        result.andExpect(jsonPath("$.facets.categories[1].count").value(2));
+        result.andExpect(jsonPath("$.facets.prices.length()").value(1));
+        result.andExpect(jsonPath("$.facets.prices[0].min").value(0));
+        result.andExpect(jsonPath("$.facets.prices[0].max").value(500));
+        result.andExpect(jsonPath("$.facets.prices[0].count").value(2));
+
+        mockMvc.perform(get("/product/category?categoryId=1").accept(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.facets").doesNotExist());
+    }
+
+    @Test
+    public void searchFacetsShouldCountTheSameMatchesAsTheListingWhateverTheOrder() throws Exception {
+        // only the full-text index matches descriptions, and it cannot sort by createdAt
+        mockMvc.perform(get("/product/search?name=lorem&facets=true&correct=false&sort=createdAt")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0))
+                .andExpect(jsonPath("$.totalElements").value(0))
+                .andExpect(jsonPath("$.facets.prices.length()").value(0));
+
+        mockMvc.perform(get("/product/search?name=lorem&facets=true&size=50&sort=price")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(25))
+                .andExpect(jsonPath("$.totalElements").value(25));
+    }
+
+    @Test
+    public void searchShouldReturnFacetsWhenRequested() throws Exception {
+        ResultActions result = mockMvc.perform(get("/product/search?name=gamer&size=5&facets=true")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(jsonPath("$.totalElements").value(21));
+        result.andExpect(jsonPath("$.content.length()").value(5));
+        result.andExpect(jsonPath("$.facets.categories.length()").value(1));
+        result.andExpect(jsonPath("$.facets.categories[0].id").value(3));
+        result.andExpect(jsonPath("$.facets.categories[0].count").value(21));
+        result.andExpect(jsonPath("$.facets.prices.length()").value(4));
+        result.andExpect(jsonPath("$.facets.prices[0].min").value(1000));
+        result.andExpect(jsonPath("$.facets.prices[0].count").value(7));
+        result.andExpect(jsonPath("$.facets.prices[1].count").value(8));
+        result.andExpect(jsonPath("$.facets.prices[2].count").value(5));
+        result.andExpect(jsonPath("$.facets.prices[3].min").value(4000));
+        result.andExpect(jsonPath("$.facets.prices[3].count").value(1));
+
+        mockMvc.perform(get("/product/search?name=livros&facets=true").accept(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.facets.categories[0].name").value("Livros"))
+                .andExpect(jsonPath("$.facets.categories[0].count").value(2));
+    }
+
+    @Test
+    public void findAllProductsByCategoryShouldMatchNameIgnoringAccentsAndCase() throws Exception {
+        mockMvc.perform(get("/product/category?categoryId=3&name=GAMÉR&facets=true").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(21))
+                .andExpect(jsonPath("$.facets.categories[0].count").value(21));
+
+        mockMvc.perform(get("/product/search?name=eletronicos&facets=true").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("Smart TV"))
+                .andExpect(jsonPath("$.facets.categories[0].name").value("Eletrônicos"));
+    }
+
+    @Test
+    public void nameFilteredFacetsShouldBeCountedFromTheSearchIndex() throws Exception {
+        sqlRecorder.record(() -> {
+                    mockMvc.perform(get("/product/category?categoryId=3&name=gamer t&facets=true")
+                                    .accept(MediaType.APPLICATION_JSON))
+                            .andExpect(status().isOk())
+                            .andExpect(jsonPath("$.totalElements").value(4))
+                            .andExpect(jsonPath("$.facets.categories[0].name").value("Computadores"))
+                            .andExpect(jsonPath("$.facets.categories[0].count").value(4));
+                    mockMvc.perform(get("/product/search?name=livros&facets=true&sort=createdAt")
+                                    .accept(MediaType.APPLICATION_JSON))
+                            .andExpect(status().isOk())
+                            .andExpect(jsonPath("$.totalElements").value(2))
+                            .andExpect(jsonPath("$.facets.categories[0].name").value("Livros"));
+                })
+                .all()
+                .forEach(sql -> Assertions.assertFalse(sql.toLowerCase(Locale.ROOT).contains(" like "), sql));
+    }
+
+    @Test
+    public void searchShouldRetryWithCorrectedSpellingWhenNothingMatches() throws Exception {
+        mockMvc.perform(get("/product/search?name=computdores gamr").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ProductResource.CORRECTED_QUERY_HEADER, "computadores gamer"))
+                .andExpect(jsonPath("$.totalElements").value(21));
+
+        mockMvc.perform(get("/product/search?name=gamr&correct=false").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ProductResource.CORRECTED_QUERY_HEADER))
+                .andExpect(jsonPath("$.totalElements").value(0));
+
+        mockMvc.perform(get("/product/search?name=gamer").accept(MediaType.APPLICATION_JSON))
+                .andExpect(header().doesNotExist(ProductResource.CORRECTED_QUERY_HEADER));
+    }
+
+    @Test
+    public void spellingCorrectorShouldLearnWordsOfSavedProducts() {
+        Assertions.assertTrue(spellingCorrector.correct("cafeteria").isEmpty());
+        spellingCorrector.onProductChanged(ProductChangedEvent.saved(9001L, "Cafeteira Elétrica", null, BigDecimal.TEN, null, Set.of(2L)));
+        try {
+            Assertions.assertEquals(Optional.of("cafeteira"), spellingCorrector.correct("Cafeteria"));
+            Assertions.assertEquals(Optional.of("eletrica eletronicos"), spellingCorrector.correct("eletrca eletronics"));
+        } finally {
+            spellingCorrector.onProductChanged(ProductChangedEvent.deleted(9001L));
+        }
+        Assertions.assertTrue(spellingCorrector.correct("cafeteria").isEmpty());
+    }
+
+    @Test
+    public void listingsShouldStayWithinStatementBudget() throws Exception {
+        sqlRecorder.record(() -> mockMvc.perform(get("/product?size=50").accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk()))
+                .assertAtMost(3);
+
+        sqlRecorder.record(() -> mockMvc.perform(get("/product/{id}", existingId).accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk()))
+                .assertAtMost(2);
+
+        sqlRecorder.record(() -> mockMvc.perform(get("/product/category?categoryId=3&size=25").accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk()))
+                .assertAtMost(3);
+
+        sqlRecorder.record(() -> mockMvc.perform(get("/product/search?name=gamer&size=25&facets=true").accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk()))
+                .assertAtMost(4);
+
+        // store with its owner and main category, then the products and their categories in one batch
+        sqlRecorder.record(() -> mockMvc.perform(get("/product/store/export")
+                                .header("Authorization", "Bearer " + token)
+                                .accept("text/csv"))
+                        .andExpect(status().isOk()))
+                .assertAtMost(5);
+    }
+
+    @Test
+    public void suggestShouldReturnPopularCompletionsForWordPrefix() throws Exception {
+        mockMvc.perform(get("/product/suggest?prefix=gam&limit=3").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].text").value("PC Gamer"))
+                .andExpect(jsonPath("$[0].type").value("PRODUCT"))
+                .andExpect(jsonPath("$[1].text").value("PC Gamer X"))
+                .andExpect(jsonPath("$[2].text").value("PC Gamer Y"));
+
+        // 22 products make Computadores outrank the single "PC Gamer Card"
+        mockMvc.perform(get("/product/suggest?prefix=C").accept(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].text").value("Computadores"))
+                .andExpect(jsonPath("$[0].type").value("CATEGORY"))
+                .andExpect(jsonPath("$[0].categoryId").value(3))
+                .andExpect(jsonPath("$[1].text").value("PC Gamer Card"));
+
+        mockMvc.perform(get("/product/suggest?prefix=eletr").accept(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].text").value("Eletrônicos"));
+
+        mockMvc.perform(get("/product/suggest?prefix=xyz").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    public void suggestShouldFollowCommittedProductWrites() throws Exception {
+        // the test transaction never commits, so deliver the events the way a commit would
+        productSuggester.onProductChanged(ProductChangedEvent.saved(9000L, "Zabumba Elétrica", null, BigDecimal.TEN, null, Set.of(2L)));
+        try {
+            mockMvc.perform(get("/product/suggest?prefix=eletric").accept(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].text").value("Zabumba Elétrica"));
+
+            productSuggester.onProductChanged(ProductChangedEvent.saved(9000L, "Zabumba", null, BigDecimal.TEN, null, Set.of(2L)));
+            mockMvc.perform(get("/product/suggest?prefix=eletric").accept(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.length()").value(0));
+        } finally {
+            productSuggester.onProductChanged(ProductChangedEvent.deleted(9000L));
+        }
+        mockMvc.perform(get("/product/suggest?prefix=zab").accept(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    public void exportShouldStreamStoreCatalogAsCsv() throws Exception {
+        ResultActions result = mockMvc.perform(get("/product/store/export")
+                .header("Authorization", "Bearer " + token)
+                .accept("text/csv"));
+
+        result.andExpect(status().isOk());
+        result.andExpect(header().string("Content-Disposition", "attachment; filename=\"catalog.csv\""));
+        String[] lines = result.andReturn().getResponse().getContentAsString().split("\n");
+        Assertions.assertEquals("id,name,description,price,imageUrl,categories", lines[0]);
+        Assertions.assertEquals(6, lines.length);
+        Assertions.assertTrue(lines[1].startsWith("5,Rails for Dummies,"));
+        Assertions.assertTrue(lines[1].endsWith(",Livros"));
+    }
+
+    @Test
+    public void exportShouldStreamStoreCatalogAsNdjson() throws Exception {
+        ResultActions result = mockMvc.perform(get("/product/store/export")
+                .header("Authorization", "Bearer " + token)
+                .accept(MediaType.APPLICATION_NDJSON));
+
+        result.andExpect(status().isOk());
+        result.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+        String[] lines = result.andReturn().getResponse().getContentAsString().split("\n");
+        Assertions.assertEquals(5, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        Assertions.assertEquals(5L, first.get("id").asLong());
+        Assertions.assertEquals("Rails for Dummies", first.get("name").asText());
+        Assertions.assertEquals("Livros", first.get("categories").get(0).asText());
+    }
+
+    private List<JsonNode> contentOf(String uri) throws Exception {
+        String json = mockMvc.perform(get(uri).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<JsonNode> content = new ArrayList<>();
+        objectMapper.readTree(json).path("content").forEach(content::add);
+        return content;
+    }
+
+    private static ProductDTO productWithCategory(Long id, String categoryName) {
+        ProductDTO dto = new ProductDTO();
+        dto.setId(id);
+        dto.getCategories().add(new CategoryDTO(1L, categoryName, null, null));
+        return dto;
+    }
+
 }
@@ -0,0 +1,142 @@
+package br.edu.ifmg.produto.resources;
+
+import br.edu.ifmg.produto.dtos.CategoryDTO;
+import br.edu.ifmg.produto.dtos.ProductDTO;
+import br.edu.ifmg.produto.util.Factory;
+import br.edu.ifmg.produto.util.SqlStatementRecorder;
+import br.edu.ifmg.produto.util.TokenUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Own database: inserted products consume sequence values even when rolled back,
+// which would shift the ids the other ITs expect.
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:storedb")
+@AutoConfigureMockMvc
+@Transactional
+public class StoreResourceIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementRecorder sqlRecorder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TokenUtil tokenUtil;
+
+    private Long existingId;
+    private Long nonExistingId;
+
+    @BeforeEach
+    void setUp() {
+        existingId = 1L;
+        nonExistingId = 1000L;
+    }
+
+    @Test
+    public void getTopStoresShouldReturnSummariesOrderedByRating() throws Exception {
+        ResultActions result = mockMvc.perform(get("/store/home")
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(6))
+                .andExpect(jsonPath("$[0].rating").value(4.5))
+                .andExpect(jsonPath("$[0].category.name").value("Roupas"))
+                .andExpect(jsonPath("$[0].productCount").value(4))
+                .andExpect(jsonPath("$[0].previewProducts.length()").value(4))
+                .andExpect(jsonPath("$[0].owner").doesNotExist())
+                .andExpect(jsonPath("$[0].products").doesNotExist());
+    }
+
+    @Test
+    public void getTopStoresShouldPreviewTheFirstProductsOfEachStore() throws Exception {
+        String json = mockMvc.perform(get("/store/home").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        for (JsonNode store : objectMapper.readTree(json)) {
+            JsonNode preview = store.get("previewProducts");
+            Assertions.assertEquals(Math.min(4, store.get("productCount").asInt()), preview.size());
+            for (int i = 1; i < preview.size(); i++) {
+                Assertions.assertTrue(preview.get(i - 1).get("id").asLong() < preview.get(i).get("id").asLong());
+            }
+        }
+    }
+
+    @Test
+    public void productCountShouldFollowProductInsertsAndDeletes() throws Exception {
+        String token = tokenUtil.obtainAccessToken(mockMvc, "maria@gmail.com", "123456");
+        ProductDTO dto = Factory.createProductDTO();
+        dto.getCategories().clear();
+        dto.getCategories().add(new CategoryDTO(1L, null, null, null));
+
+        mockMvc.perform(post("/product")
+                        .header("Authorization", "Bearer " + token)
+                        .content(objectMapper.writeValueAsString(dto))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/store/home").accept(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[?(@.id == 2)].productCount", contains(6)));
+
+        mockMvc.perform(delete("/product/{id}", 5L)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/product/{id}", 21L)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/store/home").accept(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[?(@.id == 2)].productCount", contains(4)));
+    }
+
+    @Test
+    public void readsShouldStayWithinStatementBudget() throws Exception {
+        // one query for the summaries and one for every store's preview products
+        sqlRecorder.record(() -> mockMvc.perform(get("/store/home").accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk()))
+                .assertAtMost(2);
+
+        sqlRecorder.record(() -> mockMvc.perform(get("/store/{id}/products?size=50", existingId).accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk()))
+                .assertAtMost(4);
+    }
+
+    @Test
+    public void getStoreProductsShouldReturnPageWhenStoreExists() throws Exception {
+        ResultActions result = mockMvc.perform(get("/store/{id}/products?size=2", existingId)
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.totalElements").value(4));
+    }
+
+    @Test
+    public void getStoreProductsShouldReturnNotFoundWhenStoreDoesNotExist() throws Exception {
+        ResultActions result = mockMvc.perform(get("/store/{id}/products", nonExistingId)
+                .accept(MediaType.APPLICATION_JSON));
+
+        result.andExpect(status().isNotFound());
+    }
+
+}
@@ -0,0 +1,93 @@
+package br.edu.ifmg.produto.util;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import br.edu.ifmg.produto.services.cache.CategoryCache;
+import br.edu.ifmg.produto.services.cache.ProductCache;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the SQL Hibernate sends while an action runs on the calling thread,
+ * so a test can hold a request to a statement budget:
+ * <pre>
+ * sqlRecorder.record(() -> mockMvc.perform(get("/product?size=50")))
+ *         .assertAtMost(3);
+ * </pre>
+ * Registered as the session factory's statement inspector in every test
+ * context; statements from other threads are not recorded. Inside a test
+ * transaction the persistence context is flushed and cleared first, so
+ * entities loaded by earlier requests do not hide statements a request would
+ * run in production, where it gets a fresh one. For the same reason the
+ * category and product caches are emptied, so a budget always covers the
+ * loads of a cold cache.
+ */
+@Component
+public class SqlStatementRecorder implements StatementInspector, HibernatePropertiesCustomizer {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    // looked up lazily: the factory is built with this inspector
+    @Autowired
+    private ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    @Autowired
+    private ObjectProvider<CategoryCache> categoryCache;
+
+    @Autowired
+    private ObjectProvider<ProductCache> productCache;
+
+    private final ThreadLocal<List<String>> recording = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = recording.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    public SqlStatements record(Action action) throws Exception {
+        EntityManager entityManager = EntityManagerFactoryUtils
+                .getTransactionalEntityManager(entityManagerFactory.getObject());
+        if (entityManager != null) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+        categoryCache.ifAvailable(CategoryCache::invalidateAll);
+        productCache.ifAvailable(ProductCache::invalidateAll);
+        List<String> statements = new ArrayList<>();
+        List<String> outer = recording.get();
+        recording.set(statements);
+        try {
+            action.run();
+        } finally {
+            if (outer != null) {
+                outer.addAll(statements);
+                recording.set(outer);
+            } else {
+                recording.remove();
+            }
+        }
+        return new SqlStatements(statements);
+    }
+
+}
@@ -0,0 +1,84 @@
+package br.edu.ifmg.produto.util;
+
+import org.junit.jupiter.api.Assertions;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * The statements captured by {@link SqlStatementRecorder}. Failed budgets list
+ * every distinct statement with how many times it ran, so an N+1 shows up as
+ * the same select repeated once per row.
+ */
+public class SqlStatements {
+
+    private static final Pattern TABLE = Pattern.compile("\\b(?:from|into|update)\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+
+    private final List<String> statements;
+
+    SqlStatements(List<String> statements) {
+        this.statements = List.copyOf(statements);
+    }
+
+    public int count() {
+        return statements.size();
+    }
+
+    /**
+     * Statements of one kind: "select", "insert", "update" or "delete".
+     */
+    public long count(String kind) {
+        return statements.stream().filter(sql -> kindOf(sql).equals(kind)).count();
+    }
+
+    public List<String> all() {
+        return statements;
+    }
+
+    public SqlStatements assertAtMost(int budget) {
+        if (count() > budget) {
+            Assertions.fail("Expected at most " + budget + " SQL statements but " + count() + " ran:\n" + describe());
+        }
+        return this;
+    }
+
+    public SqlStatements assertAtMost(int budget, String kind) {
+        if (count(kind) > budget) {
+            Assertions.fail("Expected at most " + budget + " " + kind + " statements but " + count(kind) + " ran:\n" + describe());
+        }
+        return this;
+    }
+
+    /**
+     * One line per distinct statement: times run, kind and first table, then the SQL.
+     */
+    public String describe() {
+        Map<String, Long> counts = statements.stream()
+                .collect(Collectors.groupingBy(sql -> sql, LinkedHashMap::new, Collectors.counting()));
+        return counts.entrySet().stream()
+                .map(e -> String.format("%4dx %s %s: %s", e.getValue(), kindOf(e.getKey()), tableOf(e.getKey()), e.getKey()))
+                .collect(Collectors.joining("\n"));
+    }
+
+    @Override
+    public String toString() {
+        return describe();
+    }
+
+    private static String kindOf(String sql) {
+        String trimmed = sql.stripLeading().toLowerCase(Locale.ROOT);
+        int end = trimmed.indexOf(' ');
+        return end < 0 ? trimmed : trimmed.substring(0, end);
+    }
+
+    private static String tableOf(String sql) {
+        Matcher matcher = TABLE.matcher(sql);
+        return matcher.find() ? matcher.group(1) : "?";
+    }
+
+}